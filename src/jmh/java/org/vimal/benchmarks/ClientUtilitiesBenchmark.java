@@ -0,0 +1,131 @@
+package org.vimal.benchmarks;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.NotFoundException;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.qrcode.QRCodeWriter;
+import org.openjdk.jmh.annotations.*;
+import org.vimal.dtos.UserDto;
+import org.vimal.utils.TotpWindow;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.InvalidKeyException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.vimal.helpers.DtosHelper.createRandomUserDto;
+import static org.vimal.utils.DateTimeUtility.getCurrentFormattedLocalTimeStamp;
+import static org.vimal.utils.JsonUtility.toCompactJsonBytes;
+import static org.vimal.utils.JsonUtility.toJson;
+import static org.vimal.utils.JsonUtility.writeTo;
+import static org.vimal.utils.QrUtility.extractSecretFromByteArrayOfQrCode;
+import static org.vimal.utils.RandomStringUtility.fillRandomAlphaNumeric;
+import static org.vimal.utils.RandomStringUtility.generateRandomStringAlphaNumeric;
+import static org.vimal.utils.TotpUtility.generateTotp;
+import static org.vimal.utils.TotpUtility.generateTotpWindow;
+import static org.vimal.utils.UniqueIdGenerator.nextId;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ClientUtilitiesBenchmark {
+    private static final String TOTP_SECRET = "JBSWY3DPEHPK3PXPJBSWY3DPEHPK3PXP";
+    private static final int USER_BATCH_SIZE = 34;
+    private byte[] qrCode;
+    private UserDto user;
+    private final List<UserDto> userBatch = new ArrayList<>(USER_BATCH_SIZE);
+    private final ByteBuffer jsonBuffer = ByteBuffer.allocate(64 * 1024);
+    private final byte[] randomStringBuffer = new byte[32];
+
+    @Setup
+    public void setUp() throws WriterException, IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        MatrixToImageWriter.writeToStream(
+                new QRCodeWriter().encode(
+                        "otpauth://totp/Security:AutoTestUser?secret=" + TOTP_SECRET + "&issuer=Security&algorithm=SHA1&digits=6&period=30",
+                        BarcodeFormat.QR_CODE,
+                        200,
+                        200
+                ),
+                "PNG",
+                outputStream
+        );
+        qrCode = outputStream.toByteArray();
+        user = createRandomUserDto();
+        for (int i = 0; i < USER_BATCH_SIZE; i++) {
+            userBatch.add(createRandomUserDto());
+        }
+    }
+
+    @Benchmark
+    public String totpGenerateTotp() throws InvalidKeyException {
+        return generateTotp(TOTP_SECRET);
+    }
+
+    @Benchmark
+    public TotpWindow totpGenerateTotpWindow() throws InvalidKeyException {
+        return generateTotpWindow(TOTP_SECRET);
+    }
+
+    @Benchmark
+    public String qrExtractSecretFromByteArrayOfQrCode() throws IOException, NotFoundException {
+        return extractSecretFromByteArrayOfQrCode(qrCode);
+    }
+
+    @Benchmark
+    public String randomStringGenerateRandomStringAlphaNumeric() {
+        return generateRandomStringAlphaNumeric();
+    }
+
+    @Benchmark
+    public byte[] randomStringFillRandomAlphaNumeric() {
+        fillRandomAlphaNumeric(randomStringBuffer, 0, randomStringBuffer.length);
+        return randomStringBuffer;
+    }
+
+    @Benchmark
+    public UserDto dtosCreateRandomUserDto() {
+        return createRandomUserDto();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String uniqueIdNextId() {
+        return nextId();
+    }
+
+    @Benchmark
+    public String dateTimeGetCurrentFormattedLocalTimeStamp() {
+        return getCurrentFormattedLocalTimeStamp();
+    }
+
+    @Benchmark
+    public String jsonToJson() throws JsonProcessingException {
+        return toJson(user);
+    }
+
+    @Benchmark
+    public String jsonToJsonUserBatch() throws JsonProcessingException {
+        return toJson(userBatch);
+    }
+
+    @Benchmark
+    public byte[] jsonToCompactJsonBytesUserBatch() throws JsonProcessingException {
+        return toCompactJsonBytes(userBatch);
+    }
+
+    @Benchmark
+    public ByteBuffer jsonWriteToByteBufferUserBatch() throws IOException {
+        jsonBuffer.clear();
+        writeTo(userBatch, jsonBuffer);
+        return jsonBuffer;
+    }
+}
@@ -9,7 +9,9 @@ import java.util.Set;
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class RoleDto {
+    @EqualsAndHashCode.Include
     private String roleName;
     private String description;
     private Set<String> permissions;
@@ -9,7 +9,9 @@ import java.util.Set;
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
 public class UserDto {
+    @EqualsAndHashCode.Include
     private String username;
     private String password;
     private String email;
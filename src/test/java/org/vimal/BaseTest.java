@@ -1,32 +1,60 @@
 package org.vimal;
 
 import io.restassured.RestAssured;
+import io.restassured.response.Response;
 import lombok.extern.slf4j.Slf4j;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
 import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.Listeners;
+import org.vimal.api.PrewarmResult;
 import org.vimal.dtos.RoleDto;
 import org.vimal.dtos.UserDto;
+import org.vimal.enums.Roles;
+import org.vimal.fixtures.FixtureOwnershipListener;
+import org.vimal.fixtures.FixturePool;
+import org.vimal.fixtures.IncrementalDeleter;
+import org.vimal.fixtures.LazyUser;
+import org.vimal.fixtures.LeasedUser;
+import org.vimal.fixtures.MaterializationQueue;
+import org.vimal.fixtures.PooledFixtures;
+import org.vimal.helpers.CleanupReport;
+import org.vimal.helpers.EntityRegistry;
+import org.vimal.jfr.FixtureEvent;
+import org.vimal.metrics.ApiCallMetrics;
+import org.vimal.tracing.TraceContext;
 
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
 
 import static org.vimal.api.AdminCallsUsingGlobalAdminUser.createRoles;
 import static org.vimal.api.AdminCallsUsingGlobalAdminUser.createUsers;
 import static org.vimal.api.AuthenticationCalls.getAccessToken;
 import static org.vimal.api.AuthenticationCalls.logout;
+import static org.vimal.api.TokenPrewarmer.prewarm;
 import static org.vimal.constants.Common.MAX_BATCH_SIZE_OF_ROLE_CREATION_AT_A_TIME;
 import static org.vimal.constants.Common.MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME;
-import static org.vimal.helpers.CleanUpHelper.cleanUpTestRoles;
-import static org.vimal.helpers.CleanUpHelper.cleanUpTestUsers;
+import static org.vimal.constants.SubPaths.ADMIN;
+import static org.vimal.helpers.CleanUpHelper.cleanUp;
 import static org.vimal.helpers.DtosHelper.*;
+import static org.vimal.utils.JsonUtility.toJson;
 
 @Slf4j
+@Listeners(FixtureOwnershipListener.class)
 public abstract class BaseTest {
-    protected static final Set<UserDto> TEST_USERS = ConcurrentHashMap.newKeySet();
-    protected static final Set<RoleDto> TEST_ROLES = ConcurrentHashMap.newKeySet();
+    private static final Path CLEANUP_REPORT_FILE = Path.of(System.getProperty("cleanup.report", "target/cleanup-report.json"));
+    protected static final EntityRegistry<UserDto> TEST_USERS = EntityRegistry.ofUsers();
+    protected static final EntityRegistry<RoleDto> TEST_ROLES = EntityRegistry.ofRoles();
     private static final String BASE_URL = "http://localhost:8080";
     private static final String BASE_PATH = "api/v1";
     public static final String TEST_EMAIL = System.getenv("TEST_EMAIL");
@@ -34,9 +62,22 @@ public abstract class BaseTest {
     public static final String GLOBAL_ADMIN_USERNAME = System.getenv("GLOBAL_ADMIN_USERNAME");
     public static final String GLOBAL_ADMIN_PASSWORD = System.getenv("GLOBAL_ADMIN_PASSWORD");
     public static String GLOBAL_ADMIN_ACCESS_TOKEN;
+    private static final int FIXTURE_PARALLELISM = Integer.getInteger("fixture.parallelism", 4);
+    private static final IncrementalDeleter INCREMENTAL_DELETER = new IncrementalDeleter(
+            TEST_USERS,
+            TEST_ROLES
+    );
+    private static final FixturePool FIXTURE_POOL = new FixturePool(
+            BaseTest::createSharedTestUsers,
+            TEST_USERS
+    );
+    private static final MaterializationQueue MATERIALIZATION_QUEUE = new MaterializationQueue(
+            BaseTest::createSharedTestUsers,
+            MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME
+    );
 
     @BeforeSuite
-    public void setUpBeforeSuite() throws ExecutionException, InterruptedException {
+    public void setUpBeforeSuite(ITestContext context) throws ExecutionException, InterruptedException {
         log.info(
                 "Setting RestAssured with base Url: '{}' & base path: '{}'",
                 BASE_URL,
@@ -46,23 +87,63 @@ public abstract class BaseTest {
         RestAssured.basePath = BASE_PATH;
         log.info("Enabling logging of request & response if validation fails.");
         RestAssured.enableLoggingOfRequestAndResponseIfValidationFails();
+        ApiCallMetrics.registerMBean();
         GLOBAL_ADMIN_ACCESS_TOKEN = getAccessToken(
                 GLOBAL_ADMIN_USERNAME,
                 GLOBAL_ADMIN_PASSWORD
         );
+        FixtureOwnershipListener.attach(INCREMENTAL_DELETER);
+        if (usesPooledFixtures(context)) {
+            FIXTURE_POOL.prefill(FixturePool.configuredSizes());
+        }
+    }
+
+    private static boolean usesPooledFixtures(ITestContext context) {
+        for (ITestNGMethod method : context.getSuite().getAllMethods()) {
+            if (method.getRealClass().isAnnotationPresent(PooledFixtures.class)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseLeasedUsers(ITestResult result) {
+        FIXTURE_POOL.releaseAll(result, !result.isSuccess());
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void releaseClassLeasedUsers() {
+        FIXTURE_POOL.releaseAllOf(this, false);
     }
 
     @AfterSuite
     public void cleanupAfterSuite() {
         log.info("Cleaning up environment after all tests.");
-        if (!TEST_USERS.isEmpty()) {
-            log.info("Deleting test users.");
-            cleanUpTestUsers(TEST_USERS);
-            TEST_USERS.clear();
+        try {
+            MATERIALIZATION_QUEUE.shutdown();
+            FIXTURE_POOL.shutdown();
+            FixtureOwnershipListener.attach(null);
+            INCREMENTAL_DELETER.shutdown();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
         }
-        if (!TEST_ROLES.isEmpty()) {
-            log.info("Deleting test roles.");
-            cleanUpTestRoles(TEST_ROLES);
+        if (!TEST_USERS.isEmpty() ||
+                !TEST_ROLES.isEmpty()) {
+            log.info("Deleting test users and roles.");
+            CleanupReport report = cleanUp(TEST_USERS, TEST_ROLES);
+            if (!report.isClean()) {
+                try {
+                    if (CLEANUP_REPORT_FILE.getParent() != null) {
+                        Files.createDirectories(CLEANUP_REPORT_FILE.getParent());
+                    }
+                    Files.writeString(CLEANUP_REPORT_FILE, toJson(report));
+                    log.warn("Cleanup report written to '{}'.", CLEANUP_REPORT_FILE);
+                } catch (Exception ex) {
+                    log.warn("Could not write cleanup report: {}", ex.toString());
+                }
+            }
+            TEST_USERS.clear();
             TEST_ROLES.clear();
         }
         try {
@@ -72,6 +153,37 @@ public abstract class BaseTest {
         log.info("Cleanup completed.");
     }
 
+    protected static LeasedUser leaseUser(Roles... roles) throws ExecutionException, InterruptedException {
+        return FIXTURE_POOL.lease(roles);
+    }
+
+    protected static Map<String, String> accessTokensOf(Collection<UserDto> users) throws ExecutionException, InterruptedException {
+        PrewarmResult prewarmed = prewarm(users);
+        if (!prewarmed.getFailures().isEmpty()) {
+            Map.Entry<String, Throwable> failure = prewarmed.getFailures()
+                    .entrySet()
+                    .iterator()
+                    .next();
+            throw new ExecutionException("Could not log in " + failure.getKey(), failure.getValue());
+        }
+        Map<String, String> accessTokens = new HashMap<>();
+        prewarmed.getSessions()
+                .forEach((username, session) -> accessTokens.put(username, session.getAccessToken()));
+        return accessTokens;
+    }
+
+    protected static LazyUser lazyTestUser() {
+        return lazyTestUser(createRandomUserDto());
+    }
+
+    protected static LazyUser lazyTestUser(Set<String> roles) {
+        return lazyTestUser(createRandomUserDto(roles));
+    }
+
+    protected static LazyUser lazyTestUser(UserDto user) {
+        return new LazyUser(user, MATERIALIZATION_QUEUE);
+    }
+
     protected static UserDto createTestUser() throws ExecutionException, InterruptedException {
         return createTestUser(createRandomUserDto());
     }
@@ -90,23 +202,35 @@ public abstract class BaseTest {
     }
 
     protected static void createTestUsers(Set<UserDto> users) throws ExecutionException, InterruptedException {
-        Iterator<UserDto> iterator = users.iterator();
-        Set<UserDto> batch = new HashSet<>();
-        UserDto user;
-        while (iterator.hasNext()) {
-            batch.clear();
-            while (iterator.hasNext() &&
-                    batch.size() < MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME) {
-                user = iterator.next();
-                TEST_USERS.add(user);
-                batch.add(user);
-            }
-            createUsers(
-                    batch,
-                    null
-            ).then()
-                    .statusCode(200);
-        }
+        ITestResult owner = FixtureOwnershipListener.currentOwner();
+        provisionUsers(
+                users,
+                batch -> {
+                    TEST_USERS.addAll(batch);
+                    FixtureOwnershipListener.claimUsers(owner, batch);
+                }
+        );
+    }
+
+    private static void createSharedTestUsers(Set<UserDto> users) throws ExecutionException, InterruptedException {
+        provisionUsers(
+                users,
+                TEST_USERS::addAll
+        );
+    }
+
+    private static void provisionUsers(Set<UserDto> users,
+                                       Consumer<Set<UserDto>> onProvisioned) throws ExecutionException, InterruptedException {
+        provisionInBatches(
+                "createTestUsers",
+                ADMIN + "/create/users",
+                partition(users, MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME),
+                batch -> createUsers(
+                        batch,
+                        null
+                ),
+                onProvisioned
+        );
     }
 
     protected static RoleDto createTestRole() throws ExecutionException, InterruptedException {
@@ -123,22 +247,122 @@ public abstract class BaseTest {
     }
 
     protected static void createTestRoles(Set<RoleDto> roles) throws ExecutionException, InterruptedException {
-        Iterator<RoleDto> iterator = roles.iterator();
-        Set<RoleDto> batch = new HashSet<>();
-        RoleDto role;
-        while (iterator.hasNext()) {
-            batch.clear();
-            while (iterator.hasNext() &&
-                    batch.size() < MAX_BATCH_SIZE_OF_ROLE_CREATION_AT_A_TIME) {
-                role = iterator.next();
-                TEST_ROLES.add(role);
-                batch.add(role);
+        ITestResult owner = FixtureOwnershipListener.currentOwner();
+        provisionInBatches(
+                "createTestRoles",
+                ADMIN + "/create/roles",
+                partition(roles, MAX_BATCH_SIZE_OF_ROLE_CREATION_AT_A_TIME),
+                batch -> createRoles(
+                        batch,
+                        null
+                ),
+                batch -> {
+                    TEST_ROLES.addAll(batch);
+                    FixtureOwnershipListener.claimRoles(owner, batch);
+                }
+        );
+    }
+
+    private static <T> List<Set<T>> partition(Set<T> entities,
+                                              int batchSize) {
+        List<Set<T>> batches = new ArrayList<>();
+        Set<T> batch = new HashSet<>();
+        for (T entity : entities) {
+            batch.add(entity);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new HashSet<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+
+    private static <T> void provisionInBatches(String operation,
+                                               String endpoint,
+                                               List<Set<T>> batches,
+                                               BatchCall<T> call,
+                                               Consumer<Set<T>> onProvisioned) throws ExecutionException, InterruptedException {
+        List<Throwable> failures = new ArrayList<>();
+        if (batches.size() == 1 ||
+                FIXTURE_PARALLELISM <= 1) {
+            Throwable failure;
+            for (Set<T> batch : batches) {
+                failure = provisionBatch(operation, endpoint, batch, call, onProvisioned);
+                if (failure != null) {
+                    failures.add(failure);
+                }
             }
-            createRoles(
-                    batch,
-                    null
-            ).then()
+        } else {
+            List<Future<Throwable>> futures = new ArrayList<>(batches.size());
+            try (ExecutorService executor = Executors.newFixedThreadPool(
+                    Math.min(FIXTURE_PARALLELISM, batches.size()),
+                    Thread.ofVirtual()
+                            .factory()
+            )) {
+                for (Set<T> batch : batches) {
+                    TraceContext context = TraceContext.capture();
+                    futures.add(executor.submit(() -> context.callWithin(() -> provisionBatch(operation, endpoint, batch, call, onProvisioned))));
+                }
+                Throwable failure;
+                for (Future<Throwable> future : futures) {
+                    failure = future.get();
+                    if (failure != null) {
+                        failures.add(failure);
+                    }
+                }
+            }
+        }
+        if (failures.size() == 1) {
+            rethrow(failures.getFirst());
+        } else if (!failures.isEmpty()) {
+            AssertionError aggregated = new AssertionError(failures.size() + " of " + batches.size() + " " + operation + " batches failed", failures.getFirst());
+            for (Throwable failure : failures.subList(1, failures.size())) {
+                aggregated.addSuppressed(failure);
+            }
+            throw aggregated;
+        }
+    }
+
+    private static <T> Throwable provisionBatch(String operation,
+                                                String endpoint,
+                                                Set<T> batch,
+                                                BatchCall<T> call,
+                                                Consumer<Set<T>> onProvisioned) {
+        FixtureEvent event = new FixtureEvent(operation, endpoint, batch.size());
+        event.begin();
+        Response response;
+        try {
+            response = call.execute(batch);
+        } catch (Throwable ex) {
+            event.fail();
+            return ex;
+        }
+        event.complete(response);
+        try {
+            response.then()
                     .statusCode(200);
+        } catch (Throwable ex) {
+            return ex;
         }
+        onProvisioned.accept(batch);
+        return null;
+    }
+
+    private static void rethrow(Throwable failure) throws ExecutionException, InterruptedException {
+        switch (failure) {
+            case ExecutionException ex -> throw ex;
+            case InterruptedException ex -> throw ex;
+            case RuntimeException ex -> throw ex;
+            case Error ex -> throw ex;
+            default -> throw new ExecutionException(failure);
+        }
+    }
+
+    @FunctionalInterface
+    private interface BatchCall<T> {
+        Response execute(Set<T> batch) throws Exception;
     }
 }
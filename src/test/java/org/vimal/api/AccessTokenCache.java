@@ -0,0 +1,118 @@
+package org.vimal.api;
+
+import io.restassured.response.Response;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+
+public final class AccessTokenCache {
+    private AccessTokenCache() {
+    }
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("token.cache.enabled", "true"));
+    private static final long REFRESH_MARGIN_MILLIS = Long.getLong("token.cache.refreshMarginMillis", 60_000L);
+    private static final ConcurrentHashMap<String, Session> SESSIONS = new ConcurrentHashMap<>();
+    private static final ConcurrentHashMap<String, CompletableFuture<Session>> LOGINS_IN_FLIGHT = new ConcurrentHashMap<>();
+    private static final List<Consumer<String>> INVALIDATION_LISTENERS = new CopyOnWriteArrayList<>();
+
+    @Getter
+    @AllArgsConstructor
+    public static final class Session {
+        private final String password;
+        private final String accessToken;
+        private final String refreshToken;
+        private final long expiresAtMillis;
+
+        private boolean isUsableFor(String password) {
+            return this.password.equals(password) &&
+                    System.currentTimeMillis() + REFRESH_MARGIN_MILLIS < expiresAtMillis;
+        }
+    }
+
+    public static Session getSession(String usernameOrEmail,
+                                     String password) throws ExecutionException, InterruptedException {
+        Session session = SESSIONS.get(usernameOrEmail);
+        if (ENABLED &&
+                session != null &&
+                session.isUsableFor(password)) {
+            return session;
+        }
+        CompletableFuture<Session> login = new CompletableFuture<>();
+        CompletableFuture<Session> inFlight = LOGINS_IN_FLIGHT.putIfAbsent(usernameOrEmail, login);
+        if (inFlight != null) {
+            session = inFlight.get();
+            if (session.isUsableFor(password)) {
+                return session;
+            }
+            return getSession(usernameOrEmail, password);
+        }
+        try {
+            session = SESSIONS.get(usernameOrEmail);
+            if (!ENABLED ||
+                    session == null ||
+                    !session.isUsableFor(password)) {
+                session = loginAndStore(usernameOrEmail, password);
+            }
+            login.complete(session);
+            return session;
+        } catch (Throwable ex) {
+            login.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            LOGINS_IN_FLIGHT.remove(usernameOrEmail, login);
+        }
+    }
+
+    public static Session loginAndStore(String usernameOrEmail,
+                                        String password) throws ExecutionException, InterruptedException {
+        long requestedAt = System.currentTimeMillis();
+        Response response = AuthenticationCalls.login(
+                usernameOrEmail,
+                password
+        );
+        response.then()
+                .statusCode(200);
+        Session session = new Session(
+                password,
+                response.jsonPath()
+                        .getString("access_token"),
+                response.jsonPath()
+                        .getString("refresh_token"),
+                requestedAt + response.jsonPath()
+                        .getLong("expires_in_seconds") * 1000
+        );
+        if (ENABLED) {
+            SESSIONS.put(usernameOrEmail, session);
+        }
+        return session;
+    }
+
+    public static void invalidate(String usernameOrEmail) {
+        SESSIONS.remove(usernameOrEmail);
+    }
+
+    public static void invalidateToken(String token) {
+        if (token != null) {
+            SESSIONS.values()
+                    .removeIf(session -> token.equals(session.getAccessToken()) ||
+                            token.equals(session.getRefreshToken()));
+            for (Consumer<String> listener : INVALIDATION_LISTENERS) {
+                listener.accept(token);
+            }
+        }
+    }
+
+    public static void onTokenInvalidated(Consumer<String> listener) {
+        INVALIDATION_LISTENERS.add(listener);
+    }
+
+    public static void clear() {
+        SESSIONS.clear();
+    }
+}
@@ -1,19 +1,36 @@
 package org.vimal.api;
 
+import io.restassured.RestAssured;
+import io.restassured.config.HttpClientConfig;
+import io.restassured.config.RestAssuredConfig;
 import io.restassured.http.ContentType;
 import io.restassured.response.Response;
 import io.restassured.specification.RequestSpecification;
 import org.vimal.enums.RequestMethods;
+import org.vimal.jfr.ApiCallEvent;
+import org.vimal.metrics.ApiCallMetrics;
+import org.apache.http.impl.client.SystemDefaultHttpClient;
+import org.vimal.tracing.ClientTraceWriter;
+import org.vimal.tracing.RequestTrace;
 
 import java.io.File;
 import java.util.Map;
 
 import static io.restassured.RestAssured.given;
+import static org.vimal.constants.Common.CORRELATION_ID;
 
 public final class ApiCalls {
     private ApiCalls() {
     }
 
+    private static final RestAssuredConfig FIRST_BYTE_TRACING_CONFIG = RestAssured.config()
+            .httpClient(HttpClientConfig.httpClientConfig()
+                    .httpClientFactory(() -> {
+                        SystemDefaultHttpClient client = new SystemDefaultHttpClient();
+                        client.addResponseInterceptor((response, context) -> RequestTrace.responseHeadersReceived());
+                        return client;
+                    }));
+
     public static Response executeRequest(RequestMethods method,
                                           String endpoint,
                                           Map<String, String> headers) {
@@ -59,7 +76,11 @@ public final class ApiCalls {
                                           Map<String, String> params,
                                           Map<String, String> pathParams,
                                           Object body) {
-        RequestSpecification spec = given();
+        RequestTrace trace = RequestTrace.begin(method.name(), endpoint);
+        RequestSpecification spec = given().header(CORRELATION_ID, trace.getCorrelationId());
+        if (ClientTraceWriter.isEnabled()) {
+            spec.config(FIRST_BYTE_TRACING_CONFIG);
+        }
         if (headers != null) {
             headers.forEach(spec::header);
         }
@@ -72,7 +93,24 @@ public final class ApiCalls {
         if (body != null) {
             processBody(spec, body);
         }
-        return executeMethod(method, spec, endpoint);
+        String metricsKey = method + " " + endpoint;
+        ApiCallEvent event = new ApiCallEvent(method.name(), endpoint);
+        event.begin();
+        long startNanos = ApiCallMetrics.onRequestStart(metricsKey);
+        Response response;
+        trace.sent();
+        try {
+            response = executeMethod(method, spec, endpoint);
+        } catch (Exception ex) {
+            ApiCallMetrics.onRequestFailed(metricsKey, startNanos);
+            event.fail();
+            trace.complete(null);
+            throw ex;
+        }
+        ApiCallMetrics.onRequestComplete(metricsKey, startNanos, response.statusCode());
+        event.complete(response);
+        trace.complete(response);
+        return response;
     }
 
     private static void processBody(RequestSpecification spec,
@@ -32,6 +32,7 @@ public final class AuthenticationCalls {
     }
 
     public static Response logout(String accessToken) throws ExecutionException, InterruptedException {
+        AccessTokenCache.invalidateToken(accessToken);
         return waitForResponse(() -> executeRequest(
                         POST,
                         AUTH + "/logout",
@@ -51,6 +52,7 @@ public final class AuthenticationCalls {
     }
 
     public static Response revokeAccessToken(String accessToken) throws ExecutionException, InterruptedException {
+        AccessTokenCache.invalidateToken(accessToken);
         return waitForResponse(() -> executeRequest(
                         POST,
                         AUTH + "/revoke/accessToken",
@@ -60,6 +62,7 @@ public final class AuthenticationCalls {
     }
 
     public static Response revokeRefreshToken(String refreshToken) throws ExecutionException, InterruptedException {
+        AccessTokenCache.invalidateToken(refreshToken);
         return waitForResponse(() -> executeRequest(
                         POST,
                         AUTH + "/revoke/refreshToken",
@@ -119,14 +122,20 @@ public final class AuthenticationCalls {
 
     public static String getAccessToken(String usernameOrEmail,
                                         String password) throws ExecutionException, InterruptedException {
-        Response response = login(
-                usernameOrEmail,
-                password
-        );
-        response.then()
-                .statusCode(200);
-        return response.jsonPath()
-                .getString("access_token");
+        return AccessTokenCache.loginAndStore(
+                        usernameOrEmail,
+                        password
+                )
+                .getAccessToken();
+    }
+
+    public static String getCachedAccessToken(String usernameOrEmail,
+                                              String password) throws ExecutionException, InterruptedException {
+        return AccessTokenCache.getSession(
+                        usernameOrEmail,
+                        password
+                )
+                .getAccessToken();
     }
 
     public static String getRefreshToken(String usernameOrEmail,
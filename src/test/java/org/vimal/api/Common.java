@@ -1,6 +1,7 @@
 package org.vimal.api;
 
 import io.restassured.response.Response;
+import org.vimal.tracing.TraceContext;
 
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
@@ -23,8 +24,9 @@ public final class Common {
 
     private static Response waitForResponse(Supplier<Response> apiCall,
                                             long timeOutSeconds) throws ExecutionException, InterruptedException {
+        TraceContext traceContext = TraceContext.capture();
         try {
-            return CompletableFuture.supplyAsync(apiCall)
+            return CompletableFuture.supplyAsync(() -> traceContext.callWithin(apiCall))
                     .get(
                             timeOutSeconds,
                             TimeUnit.SECONDS
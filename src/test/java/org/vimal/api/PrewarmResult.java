@@ -0,0 +1,13 @@
+package org.vimal.api;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class PrewarmResult {
+    private final Map<String, AccessTokenCache.Session> sessions;
+    private final Map<String, Throwable> failures;
+}
@@ -0,0 +1,58 @@
+package org.vimal.api;
+
+import lombok.extern.slf4j.Slf4j;
+import org.vimal.dtos.UserDto;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+@Slf4j
+public final class TokenPrewarmer {
+    private TokenPrewarmer() {
+    }
+
+    private static final int PARALLELISM = Integer.getInteger("token.prewarm.parallelism", 8);
+
+    public static PrewarmResult prewarm(Collection<UserDto> users) throws InterruptedException {
+        Map<String, AccessTokenCache.Session> sessions = new HashMap<>();
+        Map<String, Throwable> failures = new HashMap<>();
+        if (users.isEmpty()) {
+            return new PrewarmResult(sessions, failures);
+        }
+        long startNanos = System.nanoTime();
+        Map<String, Future<AccessTokenCache.Session>> logins = new LinkedHashMap<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(PARALLELISM, users.size())),
+                Thread.ofVirtual()
+                        .factory()
+        )) {
+            for (UserDto user : users) {
+                logins.put(user.getUsername(), executor.submit(() -> AccessTokenCache.getSession(
+                        user.getUsername(),
+                        user.getPassword()
+                )));
+            }
+            for (Map.Entry<String, Future<AccessTokenCache.Session>> login : logins.entrySet()) {
+                try {
+                    sessions.put(login.getKey(), login.getValue().get());
+                } catch (ExecutionException ex) {
+                    failures.put(login.getKey(), ex.getCause());
+                }
+            }
+        }
+        log.info(
+                "Pre-warmed access tokens for {} of {} users in {} ms (parallelism {}).",
+                users.size() - failures.size(),
+                users.size(),
+                (System.nanoTime() - startNanos) / 1_000_000,
+                PARALLELISM
+        );
+        if (!failures.isEmpty()) {
+            log.warn("Token pre-warming failed for: {}", failures.keySet());
+        }
+        return new PrewarmResult(sessions, failures);
+    }
+}
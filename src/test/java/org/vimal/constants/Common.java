@@ -6,6 +6,7 @@ public final class Common {
 
     public static final String AUTHORIZATION = "Authorization";
     public static final String BEARER = "Bearer ";
+    public static final String CORRELATION_ID = "X-Correlation-Id";
     public static final String ENABLE = "enable";
     public static final String DISABLE = "disable";
     public static final String HARD = "hard";
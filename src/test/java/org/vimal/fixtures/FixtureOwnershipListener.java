@@ -0,0 +1,138 @@
+package org.vimal.fixtures;
+
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.vimal.dtos.RoleDto;
+import org.vimal.dtos.UserDto;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.regex.PatternSyntaxException;
+
+public final class FixtureOwnershipListener implements ITestListener {
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("cleanup.incremental", "false"));
+    private static final Map<ITestResult, OwnedFixtures> OWNED = new ConcurrentHashMap<>();
+    private static final Map<ITestNGMethod, Boolean> HAS_DEPENDENTS = new ConcurrentHashMap<>();
+    private static volatile IncrementalDeleter deleter;
+    private static volatile boolean registered;
+
+    public FixtureOwnershipListener() {
+        registered = true;
+    }
+
+    public static void attach(IncrementalDeleter incrementalDeleter) {
+        deleter = incrementalDeleter;
+    }
+
+    public static ITestResult currentOwner() {
+        if (!ENABLED ||
+                !registered ||
+                deleter == null) {
+            return null;
+        }
+        ITestResult result = Reporter.getCurrentTestResult();
+        return result != null &&
+                result.getMethod().isTest() ? result : null;
+    }
+
+    public static void claimUsers(ITestResult owner,
+                                  Collection<UserDto> users) {
+        if (owner != null) {
+            OWNED.computeIfAbsent(owner, ignored -> new OwnedFixtures())
+                    .users
+                    .addAll(users);
+        }
+    }
+
+    public static void claimRoles(ITestResult owner,
+                                  Collection<RoleDto> roles) {
+        if (owner != null) {
+            OWNED.computeIfAbsent(owner, ignored -> new OwnedFixtures())
+                    .roles
+                    .addAll(roles);
+        }
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        release(result);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        release(result);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        release(result);
+    }
+
+    @Override
+    public void onTestFailedButWithinSuccessPercentage(ITestResult result) {
+        release(result);
+    }
+
+    @Override
+    public void onTestFailedWithTimeout(ITestResult result) {
+        release(result);
+    }
+
+    private static void release(ITestResult result) {
+        OwnedFixtures owned = OWNED.remove(result);
+        IncrementalDeleter current = deleter;
+        if (owned == null ||
+                current == null ||
+                hasDependents(result)) {
+            return;
+        }
+        current.enqueue(owned.users, owned.roles);
+    }
+
+    private static boolean hasDependents(ITestResult result) {
+        ITestNGMethod owner = result.getMethod();
+        return HAS_DEPENDENTS.computeIfAbsent(
+                owner,
+                ignored -> {
+                    for (ITestNGMethod method : result.getTestContext().getAllTestMethods()) {
+                        if (method != owner &&
+                                (dependsOn(method.getMethodsDependedUpon(), owner) ||
+                                        Arrays.stream(method.getGroupsDependedUpon())
+                                                .anyMatch(Arrays.asList(owner.getGroups())::contains))) {
+                            return true;
+                        }
+                    }
+                    return false;
+                }
+        );
+    }
+
+    private static boolean dependsOn(String[] methodsDependedUpon,
+                                     ITestNGMethod owner) {
+        String qualifiedName = owner.getQualifiedName();
+        for (String dependency : methodsDependedUpon) {
+            if (dependency.equals(qualifiedName) ||
+                    dependency.equals(owner.getMethodName())) {
+                return true;
+            }
+            try {
+                if (qualifiedName.matches(dependency)) {
+                    return true;
+                }
+            } catch (PatternSyntaxException ignored) {
+            }
+        }
+        return false;
+    }
+
+    private static final class OwnedFixtures {
+        private final Queue<UserDto> users = new ConcurrentLinkedQueue<>();
+        private final Queue<RoleDto> roles = new ConcurrentLinkedQueue<>();
+    }
+}
@@ -0,0 +1,392 @@
+package org.vimal.fixtures;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.vimal.api.AccessTokenCache;
+import org.vimal.api.PrewarmResult;
+import org.vimal.dtos.UserDto;
+import org.vimal.enums.Roles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.vimal.BaseTest.GLOBAL_ADMIN_ACCESS_TOKEN;
+import static org.vimal.api.AdminCalls.readUsers;
+import static org.vimal.api.TokenPrewarmer.prewarm;
+import static org.vimal.constants.Common.ENABLE;
+import static org.vimal.constants.Common.MAX_BATCH_SIZE_OF_USER_READ_AT_A_TIME;
+import static org.vimal.helpers.DtosHelper.createRandomUserDto;
+import static org.vimal.utils.JsonUtility.fromJson;
+import static org.vimal.utils.JsonUtility.toJson;
+
+@Slf4j
+public final class FixturePool {
+    private static final long TOKEN_REFRESH_MARGIN_MILLIS = Long.getLong("fixture.pool.tokenRefreshMarginMillis", 60_000L);
+    private static final String NO_ROLES = "NONE";
+    private static final String DEFAULT_ROLE_SETS = NO_ROLES + ";" + Roles.ROLE_SUPER_ADMIN.name() + ";" + Roles.ROLE_ADMIN.name() + ";" + Roles.ROLE_MANAGE_USERS.name();
+    private static final String SNAPSHOT_FILE = System.getProperty("fixture.snapshot.file");
+    private static final String LEASES_ATTRIBUTE = "fixture.pool.leases";
+    private final UserProvisioner provisioner;
+    private final Set<UserDto> cleanupRegistry;
+    private final ConcurrentHashMap<Set<Roles>, ConcurrentLinkedDeque<LeasedUser>> idleUsers = new ConcurrentHashMap<>();
+    private final Set<LeasedUser> outstanding = ConcurrentHashMap.newKeySet();
+    private final ConcurrentHashMap<Object, Queue<LeasedUser>> leasedByTestInstance = new ConcurrentHashMap<>();
+    private final ExecutorService recycler = Executors.newVirtualThreadPerTaskExecutor();
+
+    public FixturePool(UserProvisioner provisioner,
+                       Set<UserDto> cleanupRegistry) {
+        this.provisioner = provisioner;
+        this.cleanupRegistry = cleanupRegistry;
+        AccessTokenCache.onTokenInvalidated(this::tokenInvalidated);
+    }
+
+    public static Map<Set<Roles>, Integer> configuredSizes() {
+        int size = Integer.getInteger("fixture.pool.size", 2);
+        Map<Set<Roles>, Integer> sizes = new LinkedHashMap<>();
+        if (size <= 0) {
+            return sizes;
+        }
+        for (String roleSet : System.getProperty("fixture.pool.roleSets", DEFAULT_ROLE_SETS).split(";")) {
+            if (roleSet.isBlank()) {
+                continue;
+            }
+            EnumSet<Roles> roles = EnumSet.noneOf(Roles.class);
+            if (!roleSet.trim().equals(NO_ROLES)) {
+                for (String role : roleSet.split("\\+")) {
+                    roles.add(Roles.valueOf(role.trim()));
+                }
+            }
+            sizes.put(Collections.unmodifiableSet(roles), size);
+        }
+        return sizes;
+    }
+
+    public void prefill(Map<Set<Roles>, Integer> sizes) throws ExecutionException, InterruptedException {
+        Map<Set<Roles>, Integer> restored = SNAPSHOT_FILE == null ? Map.of() : restoreSnapshot(sizes);
+        List<LeasedUser> users = new ArrayList<>();
+        for (Map.Entry<Set<Roles>, Integer> entry : sizes.entrySet()) {
+            for (int i = restored.getOrDefault(entry.getKey(), 0); i < entry.getValue(); i++) {
+                users.add(newLeasedUser(entry.getKey()));
+            }
+        }
+        if (users.isEmpty()) {
+            return;
+        }
+        Set<UserDto> toCreate = new HashSet<>();
+        for (LeasedUser user : users) {
+            toCreate.add(user.getUser());
+        }
+        provisioner.provision(toCreate);
+        PrewarmResult prewarmed = prewarm(toCreate);
+        for (LeasedUser user : users) {
+            if (prewarmed.getFailures().containsKey(user.getUser().getUsername())) {
+                throw new ExecutionException("Could not log in pooled user " + user.getUser().getUsername(), prewarmed.getFailures().get(user.getUser().getUsername()));
+            }
+            idleQueue(user.getRoles()).offerLast(issuedAccessToken(user, prewarmed.getSessions().get(user.getUser().getUsername())));
+        }
+        log.info(
+                "Fixture pool pre-filled with {} users across {} role sets.",
+                users.size(),
+                sizes.size()
+        );
+    }
+
+    public LeasedUser lease(Roles... roles) throws ExecutionException, InterruptedException {
+        Set<Roles> key = toKey(roles);
+        LeasedUser user = idleQueue(key).pollFirst();
+        if (user == null) {
+            user = provisionOne(key);
+        } else if (user.isTokenRevoked() ||
+                System.currentTimeMillis() + TOKEN_REFRESH_MARGIN_MILLIS >= user.getAccessTokenExpiresAtMillis()) {
+            issueAccessToken(user);
+        }
+        outstanding.add(user);
+        leasesOf(Reporter.getCurrentTestResult()).add(user);
+        return user;
+    }
+
+    public void release(LeasedUser user) {
+        if (outstanding.remove(user)) {
+            giveBack(user);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    public void releaseAll(ITestResult result,
+                           boolean markDirty) {
+        Queue<LeasedUser> leased;
+        synchronized (result) {
+            leased = (Queue<LeasedUser>) result.getAttribute(LEASES_ATTRIBUTE);
+            result.removeAttribute(LEASES_ATTRIBUTE);
+        }
+        releaseAll(leased, markDirty);
+    }
+
+    public void releaseAllOf(Object testInstance,
+                             boolean markDirty) {
+        releaseAll(leasedByTestInstance.remove(testInstance), markDirty);
+    }
+
+    private void releaseAll(Queue<LeasedUser> leased,
+                            boolean markDirty) {
+        if (leased == null) {
+            return;
+        }
+        for (LeasedUser user : leased) {
+            if (!outstanding.remove(user)) {
+                continue;
+            }
+            if (markDirty) {
+                user.markDirty();
+            }
+            giveBack(user);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Queue<LeasedUser> leasesOf(ITestResult result) {
+        if (result == null) {
+            log.warn("Fixture leased outside a TestNG method; it is only returned to the pool by an explicit release().");
+            return new ConcurrentLinkedQueue<>();
+        }
+        if (!result.getMethod().isTest()) {
+            return leasedByTestInstance.computeIfAbsent(result.getInstance(), ignored -> new ConcurrentLinkedQueue<>());
+        }
+        synchronized (result) {
+            Queue<LeasedUser> leased = (Queue<LeasedUser>) result.getAttribute(LEASES_ATTRIBUTE);
+            if (leased == null) {
+                leased = new ConcurrentLinkedQueue<>();
+                result.setAttribute(LEASES_ATTRIBUTE, leased);
+            }
+            return leased;
+        }
+    }
+
+    private void tokenInvalidated(String token) {
+        for (LeasedUser user : outstanding) {
+            if (user.holdsToken(token)) {
+                user.tokenRevoked();
+            }
+        }
+    }
+
+    public void shutdown() throws InterruptedException {
+        if (!outstanding.isEmpty()) {
+            log.warn(
+                    "{} pooled users were never released and will not be reused.",
+                    outstanding.size()
+            );
+        }
+        recycler.shutdown();
+        if (!recycler.awaitTermination(1, TimeUnit.MINUTES)) {
+            log.warn("Fixture pool replacements still running after shutdown timeout.");
+        }
+        if (SNAPSHOT_FILE != null) {
+            saveSnapshot();
+        }
+    }
+
+    private Map<Set<Roles>, Integer> restoreSnapshot(Map<Set<Roles>, Integer> sizes) throws ExecutionException, InterruptedException {
+        Path path = Path.of(SNAPSHOT_FILE);
+        if (!Files.exists(path)) {
+            return Map.of();
+        }
+        FixtureSnapshot snapshot;
+        try {
+            snapshot = fromJson(path, FixtureSnapshot.class);
+        } catch (IOException ex) {
+            log.warn(
+                    "Ignoring unreadable fixture snapshot '{}': {}",
+                    path,
+                    ex.toString()
+            );
+            return Map.of();
+        }
+        Map<Set<Roles>, Integer> wanted = new HashMap<>(sizes);
+        Map<String, UserDto> candidates = new LinkedHashMap<>();
+        for (UserDto user : snapshot.getUsers()) {
+            Set<Roles> roles = toKey(user.getRoles());
+            if (roles != null &&
+                    wanted.merge(roles, -1, Integer::sum) >= 0) {
+                candidates.put(user.getUsername(), user);
+            } else {
+                cleanupRegistry.add(user);
+            }
+        }
+        Map<String, Map<String, Object>> found = readExisting(candidates.keySet());
+        List<UserDto> reusable = new ArrayList<>();
+        for (UserDto user : candidates.values()) {
+            Map<String, Object> current = found.get(user.getUsername());
+            if (current == null) {
+                continue;
+            }
+            if (matches(user, current)) {
+                reusable.add(user);
+            } else {
+                cleanupRegistry.add(user);
+            }
+        }
+        PrewarmResult prewarmed = prewarm(reusable);
+        Map<Set<Roles>, Integer> restored = new HashMap<>();
+        for (UserDto user : reusable) {
+            cleanupRegistry.add(user);
+            AccessTokenCache.Session session = prewarmed.getSessions().get(user.getUsername());
+            if (session == null) {
+                continue;
+            }
+            LeasedUser leasedUser = issuedAccessToken(new LeasedUser(toKey(user.getRoles()), user), session);
+            idleQueue(leasedUser.getRoles()).offerLast(leasedUser);
+            restored.merge(leasedUser.getRoles(), 1, Integer::sum);
+        }
+        log.info(
+                "Reused {} of {} snapshot fixtures from '{}'.",
+                restored.values().stream().mapToInt(Integer::intValue).sum(),
+                snapshot.getUsers().size(),
+                path
+        );
+        return restored;
+    }
+
+    private static Map<String, Map<String, Object>> readExisting(Set<String> usernames) throws ExecutionException, InterruptedException {
+        Map<String, Map<String, Object>> found = new HashMap<>();
+        List<String> pending = new ArrayList<>(usernames);
+        for (int from = 0; from < pending.size(); from += MAX_BATCH_SIZE_OF_USER_READ_AT_A_TIME) {
+            Response response = readUsers(
+                    GLOBAL_ADMIN_ACCESS_TOKEN,
+                    new HashSet<>(pending.subList(from, Math.min(from + MAX_BATCH_SIZE_OF_USER_READ_AT_A_TIME, pending.size()))),
+                    ENABLE
+            );
+            List<Map<String, Object>> users = response.statusCode() == 200 ?
+                    response.jsonPath().getList("found_users") :
+                    List.of();
+            for (Map<String, Object> user : users) {
+                found.put((String) user.get("username"), user);
+            }
+        }
+        return found;
+    }
+
+    private static boolean matches(UserDto expected,
+                                   Map<String, Object> current) {
+        Object roles = current.get("roles");
+        return Objects.equals(expected.getEmail(), current.get("email")) &&
+                roles instanceof Collection<?> currentRoles &&
+                new HashSet<>(currentRoles).equals(expected.getRoles() == null ? Set.of() : expected.getRoles());
+    }
+
+    private void saveSnapshot() {
+        List<UserDto> users = new ArrayList<>();
+        for (ConcurrentLinkedDeque<LeasedUser> queue : idleUsers.values()) {
+            for (LeasedUser user : queue) {
+                if (!user.isDirty()) {
+                    users.add(user.getUser());
+                }
+            }
+        }
+        Path path = Path.of(SNAPSHOT_FILE);
+        try {
+            Path parent = path.toAbsolutePath().getParent();
+            if (parent != null) {
+                Files.createDirectories(parent);
+            }
+            Files.writeString(path, toJson(new FixtureSnapshot(System.currentTimeMillis(), users)));
+        } catch (IOException ex) {
+            log.warn(
+                    "Could not save fixture snapshot '{}', pooled users will be cleaned up: {}",
+                    path,
+                    ex.toString()
+            );
+            return;
+        }
+        users.forEach(cleanupRegistry::remove);
+        log.info(
+                "Saved {} pooled users to fixture snapshot '{}'.",
+                users.size(),
+                path
+        );
+    }
+
+    private void giveBack(LeasedUser user) {
+        if (!user.isDirty()) {
+            idleQueue(user.getRoles()).offerLast(user);
+            return;
+        }
+        if (recycler.isShutdown()) {
+            return;
+        }
+        recycler.submit(() -> {
+            try {
+                idleQueue(user.getRoles()).offerLast(provisionOne(user.getRoles()));
+            } catch (Exception ex) {
+                log.warn(
+                        "Could not replace pooled user for roles {}: {}",
+                        user.getRoles(),
+                        ex.toString()
+                );
+            }
+        });
+    }
+
+    private LeasedUser provisionOne(Set<Roles> roles) throws ExecutionException, InterruptedException {
+        LeasedUser user = newLeasedUser(roles);
+        provisioner.provision(Set.of(user.getUser()));
+        return issueAccessToken(user);
+    }
+
+    private static LeasedUser newLeasedUser(Set<Roles> roles) {
+        Set<String> roleNames = new HashSet<>();
+        for (Roles role : roles) {
+            roleNames.add(role.name());
+        }
+        return new LeasedUser(roles, createRandomUserDto(roleNames.isEmpty() ? null : roleNames));
+    }
+
+    private static LeasedUser issueAccessToken(LeasedUser user) throws ExecutionException, InterruptedException {
+        return issuedAccessToken(
+                user,
+                AccessTokenCache.getSession(
+                        user.getUser().getUsername(),
+                        user.getUser().getPassword()
+                )
+        );
+    }
+
+    private static LeasedUser issuedAccessToken(LeasedUser user,
+                                                AccessTokenCache.Session session) {
+        user.issuedAccessToken(
+                session.getAccessToken(),
+                session.getRefreshToken(),
+                session.getExpiresAtMillis()
+        );
+        return user;
+    }
+
+    private ConcurrentLinkedDeque<LeasedUser> idleQueue(Set<Roles> roles) {
+        return idleUsers.computeIfAbsent(roles, ignored -> new ConcurrentLinkedDeque<>());
+    }
+
+    private static Set<Roles> toKey(Set<String> roleNames) {
+        EnumSet<Roles> key = EnumSet.noneOf(Roles.class);
+        if (roleNames != null) {
+            for (String roleName : roleNames) {
+                try {
+                    key.add(Roles.valueOf(roleName));
+                } catch (IllegalArgumentException ex) {
+                    return null;
+                }
+            }
+        }
+        return Collections.unmodifiableSet(key);
+    }
+
+    private static Set<Roles> toKey(Roles... roles) {
+        EnumSet<Roles> key = EnumSet.noneOf(Roles.class);
+        Collections.addAll(key, roles);
+        return Collections.unmodifiableSet(key);
+    }
+}
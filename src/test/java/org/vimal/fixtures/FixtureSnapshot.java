@@ -0,0 +1,18 @@
+package org.vimal.fixtures;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.vimal.dtos.UserDto;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class FixtureSnapshot {
+    private long savedAtEpochMillis;
+    private List<UserDto> users;
+}
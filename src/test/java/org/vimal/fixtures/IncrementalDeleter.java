@@ -0,0 +1,138 @@
+package org.vimal.fixtures;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.vimal.dtos.RoleDto;
+import org.vimal.dtos.UserDto;
+import org.vimal.helpers.CleanupReport;
+import org.vimal.helpers.EntityRegistry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.vimal.constants.Common.MAX_BATCH_SIZE_OF_USER_DELETION_AT_A_TIME;
+import static org.vimal.helpers.CleanUpHelper.cleanUp;
+
+@Slf4j
+public final class IncrementalDeleter {
+    private static final long LINGER_MILLIS = Long.getLong("cleanup.incremental.lingerMillis", 250L);
+    private final EntityRegistry<UserDto> userRegistry;
+    private final EntityRegistry<RoleDto> roleRegistry;
+    private final LinkedBlockingQueue<Released> pending = new LinkedBlockingQueue<>();
+    private volatile Thread drainer;
+    private volatile boolean shuttingDown;
+
+    public IncrementalDeleter(EntityRegistry<UserDto> userRegistry,
+                              EntityRegistry<RoleDto> roleRegistry) {
+        this.userRegistry = userRegistry;
+        this.roleRegistry = roleRegistry;
+    }
+
+    void enqueue(Collection<UserDto> users,
+                 Collection<RoleDto> roles) {
+        if ((users.isEmpty() && roles.isEmpty()) ||
+                shuttingDown) {
+            return;
+        }
+        pending.add(new Released(users, roles));
+        startDrainerIfNeeded();
+    }
+
+    private void startDrainerIfNeeded() {
+        if (drainer != null) {
+            return;
+        }
+        synchronized (this) {
+            if (drainer == null) {
+                drainer = Thread.ofVirtual()
+                        .name("fixture-incremental-deleter")
+                        .start(this::drain);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                List<Released> batch = new ArrayList<>();
+                batch.add(pending.take());
+                int users = batch.getFirst().getUsers().size();
+                long lingerUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LINGER_MILLIS);
+                Released next;
+                while (users < MAX_BATCH_SIZE_OF_USER_DELETION_AT_A_TIME) {
+                    long remaining = lingerUntil - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    users += next.getUsers().size();
+                }
+                delete(batch);
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void delete(List<Released> batch) {
+        Set<UserDto> users = new HashSet<>();
+        Set<RoleDto> roles = new HashSet<>();
+        for (Released released : batch) {
+            users.addAll(released.getUsers());
+            roles.addAll(released.getRoles());
+        }
+        CleanupReport report;
+        try {
+            report = cleanUp(users, roles);
+        } catch (Throwable ex) {
+            log.warn(
+                    "Incremental cleanup of {} users and {} roles failed, leaving them for suite cleanup: {}",
+                    users.size(),
+                    roles.size(),
+                    ex.toString()
+            );
+            return;
+        }
+        for (UserDto user : users) {
+            if (!report.getFailedUsers().containsKey(user.getUsername())) {
+                userRegistry.remove(user);
+            }
+        }
+        for (RoleDto role : roles) {
+            if (!report.getFailedRoles().containsKey(role.getRoleName())) {
+                roleRegistry.remove(role);
+            }
+        }
+    }
+
+    public void shutdown() throws InterruptedException {
+        shuttingDown = true;
+        Thread current = drainer;
+        if (current != null) {
+            current.interrupt();
+            current.join();
+        }
+        List<Released> remaining = new ArrayList<>();
+        pending.drainTo(remaining);
+        if (!remaining.isEmpty()) {
+            delete(remaining);
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class Released {
+        private final Collection<UserDto> users;
+        private final Collection<RoleDto> roles;
+    }
+}
@@ -0,0 +1,83 @@
+package org.vimal.fixtures;
+
+import org.testng.ITestResult;
+import org.vimal.dtos.UserDto;
+
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.vimal.api.AuthenticationCalls.getCachedAccessToken;
+
+public final class LazyUser {
+    private static final long TIMEOUT_SECONDS = Long.getLong("fixture.lazy.timeoutSeconds", 120L);
+    private final UserDto user;
+    private final MaterializationQueue queue;
+    private final AtomicReference<CompletableFuture<Void>> created = new AtomicReference<>();
+    private final AtomicBoolean claimed = new AtomicBoolean();
+
+    public LazyUser(UserDto user,
+                    MaterializationQueue queue) {
+        this.user = user;
+        this.queue = queue;
+    }
+
+    public String getUsername() {
+        return user.getUsername();
+    }
+
+    public boolean isMaterialized() {
+        CompletableFuture<Void> future = created.get();
+        return future != null &&
+                future.isDone() &&
+                !future.isCompletedExceptionally();
+    }
+
+    public UserDto getUser() throws ExecutionException, InterruptedException {
+        materialize();
+        return user;
+    }
+
+    public String getPassword() throws ExecutionException, InterruptedException {
+        return getUser().getPassword();
+    }
+
+    public String getAccessToken() throws ExecutionException, InterruptedException {
+        materialize();
+        return getCachedAccessToken(
+                user.getUsername(),
+                user.getPassword()
+        );
+    }
+
+    public void materialize() throws ExecutionException, InterruptedException {
+        ITestResult owner = FixtureOwnershipListener.currentOwner();
+        CompletableFuture<Void> future = created.get();
+        if (future == null) {
+            CompletableFuture<Void> placeholder = new CompletableFuture<>();
+            if (created.compareAndSet(null, placeholder)) {
+                queue.enqueue(user)
+                        .whenComplete((ignored, ex) -> {
+                            if (ex == null) {
+                                placeholder.complete(null);
+                            } else {
+                                placeholder.completeExceptionally(ex);
+                            }
+                        });
+            }
+            future = created.get();
+        }
+        try {
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (TimeoutException ex) {
+            throw new ExecutionException("Timed out after " + TIMEOUT_SECONDS + "s waiting for lazy user '" + user.getUsername() + "' to be created", ex);
+        }
+        if (claimed.compareAndSet(false, true)) {
+            FixtureOwnershipListener.claimUsers(owner, Set.of(user));
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package org.vimal.fixtures;
+
+import lombok.Getter;
+import org.vimal.dtos.UserDto;
+import org.vimal.enums.Roles;
+
+import java.util.Set;
+
+@Getter
+public final class LeasedUser {
+    private final Set<Roles> roles;
+    private final UserDto user;
+    private volatile String accessToken;
+    private volatile String refreshToken;
+    private volatile long accessTokenExpiresAtMillis;
+    private volatile boolean dirty;
+    private volatile boolean tokenRevoked;
+
+    LeasedUser(Set<Roles> roles,
+               UserDto user) {
+        this.roles = roles;
+        this.user = user;
+    }
+
+    public void markDirty() {
+        dirty = true;
+    }
+
+    void issuedAccessToken(String accessToken,
+                           String refreshToken,
+                           long expiresAtMillis) {
+        this.accessToken = accessToken;
+        this.refreshToken = refreshToken;
+        this.accessTokenExpiresAtMillis = expiresAtMillis;
+        this.tokenRevoked = false;
+    }
+
+    boolean holdsToken(String token) {
+        return token.equals(accessToken) ||
+                token.equals(refreshToken);
+    }
+
+    void tokenRevoked() {
+        tokenRevoked = true;
+    }
+}
@@ -0,0 +1,135 @@
+package org.vimal.fixtures;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.vimal.dtos.UserDto;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+@Slf4j
+public final class MaterializationQueue {
+    private static final long LINGER_MILLIS = Long.getLong("fixture.lazy.lingerMillis", 5L);
+    private final UserProvisioner provisioner;
+    private final int maxBatchSize;
+    private final LinkedBlockingQueue<PendingUser> pending = new LinkedBlockingQueue<>();
+    private final ExecutorService batchExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private volatile Thread drainer;
+
+    public MaterializationQueue(UserProvisioner provisioner,
+                                int maxBatchSize) {
+        this.provisioner = provisioner;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    CompletableFuture<Void> enqueue(UserDto user) {
+        PendingUser pendingUser = new PendingUser(user, new CompletableFuture<>());
+        pending.add(pendingUser);
+        startDrainerIfNeeded();
+        return pendingUser.getCreated();
+    }
+
+    private void startDrainerIfNeeded() {
+        if (drainer != null) {
+            return;
+        }
+        synchronized (this) {
+            if (drainer == null) {
+                drainer = Thread.ofVirtual()
+                        .name("fixture-materializer")
+                        .start(this::drain);
+            }
+        }
+    }
+
+    private void drain() {
+        List<PendingUser> batch = new ArrayList<>(maxBatchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                batch.add(pending.take());
+                long lingerUntil = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(LINGER_MILLIS);
+                PendingUser next;
+                while (batch.size() < maxBatchSize) {
+                    pending.drainTo(batch, maxBatchSize - batch.size());
+                    long remaining = lingerUntil - System.nanoTime();
+                    if (batch.size() >= maxBatchSize ||
+                            remaining <= 0) {
+                        break;
+                    }
+                    next = pending.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                }
+                List<PendingUser> ready = batch;
+                batch = new ArrayList<>(maxBatchSize);
+                batchExecutor.submit(() -> materialize(ready));
+            }
+        } catch (InterruptedException ex) {
+            batch.forEach(pendingUser -> pendingUser.getCreated().cancel(false));
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void materialize(List<PendingUser> batch) {
+        try {
+            provisioner.provision(toUsers(batch));
+            batch.forEach(pendingUser -> pendingUser.getCreated().complete(null));
+            return;
+        } catch (Throwable ex) {
+            if (batch.size() == 1) {
+                batch.getFirst().getCreated().completeExceptionally(ex);
+                return;
+            }
+            log.warn(
+                    "Lazy fixture batch of {} failed, retrying users one by one: {}",
+                    batch.size(),
+                    ex.toString()
+            );
+        }
+        for (PendingUser pendingUser : batch) {
+            try {
+                provisioner.provision(Set.of(pendingUser.getUser()));
+                pendingUser.getCreated().complete(null);
+            } catch (Throwable ex) {
+                pendingUser.getCreated().completeExceptionally(ex);
+            }
+        }
+    }
+
+    private static Set<UserDto> toUsers(List<PendingUser> batch) {
+        Set<UserDto> users = new HashSet<>();
+        for (PendingUser pendingUser : batch) {
+            users.add(pendingUser.getUser());
+        }
+        return users;
+    }
+
+    public void shutdown() throws InterruptedException {
+        Thread current = drainer;
+        if (current != null) {
+            current.interrupt();
+            current.join();
+        }
+        PendingUser abandoned;
+        while ((abandoned = pending.poll()) != null) {
+            abandoned.getCreated().cancel(false);
+        }
+        batchExecutor.shutdown();
+        if (!batchExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+            log.warn("Lazy fixture batches still running after shutdown timeout.");
+        }
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static final class PendingUser {
+        private final UserDto user;
+        private final CompletableFuture<Void> created;
+    }
+}
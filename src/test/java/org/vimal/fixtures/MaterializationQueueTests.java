@@ -0,0 +1,76 @@
+package org.vimal.fixtures;
+
+import org.testng.annotations.Test;
+import org.vimal.dtos.UserDto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.*;
+
+public class MaterializationQueueTests {
+    @Test
+    public void test_Concurrent_Requests_Are_Created_In_One_Batch() throws Exception {
+        List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+        MaterializationQueue queue = new MaterializationQueue(
+                users -> batchSizes.add(users.size()),
+                10
+        );
+        List<CompletableFuture<Void>> created = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            created.add(queue.enqueue(user("batched_" + i)));
+        }
+        CompletableFuture.allOf(created.toArray(CompletableFuture[]::new))
+                .get(10, TimeUnit.SECONDS);
+        assertEquals(batchSizes.stream().mapToInt(Integer::intValue).sum(), 5);
+        assertTrue(batchSizes.size() < 5);
+        queue.shutdown();
+    }
+
+    @Test
+    public void test_Failed_Batch_Is_Retried_User_By_User() throws Exception {
+        Set<String> created = ConcurrentHashMap.newKeySet();
+        MaterializationQueue queue = new MaterializationQueue(
+                users -> {
+                    if (users.stream().anyMatch(user -> user.getUsername().equals("bad"))) {
+                        throw new ExecutionException(new IllegalStateException("rejected"));
+                    }
+                    users.forEach(user -> created.add(user.getUsername()));
+                },
+                10
+        );
+        CompletableFuture<Void> good = queue.enqueue(user("good"));
+        CompletableFuture<Void> bad = queue.enqueue(user("bad"));
+        good.get(10, TimeUnit.SECONDS);
+        assertThrows(ExecutionException.class, () -> bad.get(10, TimeUnit.SECONDS));
+        assertEquals(created, Set.of("good"));
+        queue.shutdown();
+    }
+
+    @Test
+    public void test_Lazy_User_Is_Created_Once_And_Only_When_Touched() throws Exception {
+        List<String> provisioned = new CopyOnWriteArrayList<>();
+        MaterializationQueue queue = new MaterializationQueue(
+                users -> users.forEach(user -> provisioned.add(user.getUsername())),
+                10
+        );
+        LazyUser untouched = new LazyUser(user("untouched"), queue);
+        LazyUser touched = new LazyUser(user("touched"), queue);
+        assertEquals(untouched.getUsername(), "untouched");
+        assertEquals(touched.getPassword(), "Password@1");
+        touched.materialize();
+        assertTrue(touched.isMaterialized());
+        assertFalse(untouched.isMaterialized());
+        assertEquals(provisioned, List.of("touched"));
+        queue.shutdown();
+    }
+
+    private static UserDto user(String username) {
+        return UserDto.builder()
+                .username(username)
+                .password("Password@1")
+                .build();
+    }
+}
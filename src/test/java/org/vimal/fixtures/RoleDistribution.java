@@ -0,0 +1,89 @@
+package org.vimal.fixtures;
+
+import org.vimal.enums.Roles;
+
+import java.util.*;
+
+import static org.vimal.enums.Roles.*;
+
+public final class RoleDistribution {
+    private final List<Set<String>> roleSets;
+    private final double[] cumulativeWeights;
+    private final long seed;
+
+    private RoleDistribution(Map<Set<Roles>, Double> weights,
+                             long seed) {
+        this.roleSets = new ArrayList<>(weights.size());
+        this.cumulativeWeights = new double[weights.size()];
+        this.seed = seed;
+        double total = 0;
+        for (double weight : weights.values()) {
+            total += weight;
+        }
+        double cumulative = 0;
+        int i = 0;
+        for (Map.Entry<Set<Roles>, Double> entry : weights.entrySet()) {
+            cumulative += entry.getValue() / total;
+            cumulativeWeights[i++] = cumulative;
+            roleSets.add(toRoleNames(entry.getKey()));
+        }
+        cumulativeWeights[cumulativeWeights.length - 1] = 1;
+    }
+
+    public static RoleDistribution realistic(long seed) {
+        Map<Set<Roles>, Double> weights = new LinkedHashMap<>();
+        weights.put(EnumSet.noneOf(Roles.class), 90.0);
+        weights.put(EnumSet.of(ROLE_MANAGE_USERS), 4.0);
+        weights.put(EnumSet.of(ROLE_MANAGE_ROLES), 2.0);
+        weights.put(EnumSet.of(ROLE_MANAGE_PERMISSIONS), 1.0);
+        weights.put(EnumSet.of(ROLE_MANAGE_USERS, ROLE_MANAGE_ROLES), 1.5);
+        weights.put(EnumSet.of(ROLE_ADMIN), 1.5);
+        return new RoleDistribution(weights, seed);
+    }
+
+    public static RoleDistribution parse(String spec,
+                                         long seed) {
+        Map<Set<Roles>, Double> weights = new LinkedHashMap<>();
+        for (String entry : spec.split(",")) {
+            int separator = entry.lastIndexOf(':');
+            if (separator < 0) {
+                throw new IllegalArgumentException("Expected '<roles>:<weight>' but got '" + entry + "'");
+            }
+            EnumSet<Roles> roles = EnumSet.noneOf(Roles.class);
+            for (String role : entry.substring(0, separator).split("\\+")) {
+                if (!role.isBlank()) {
+                    roles.add(Roles.valueOf(role.trim()));
+                }
+            }
+            weights.merge(roles, Double.parseDouble(entry.substring(separator + 1).trim()), Double::sum);
+        }
+        return new RoleDistribution(weights, seed);
+    }
+
+    public Set<String> rolesFor(long index) {
+        double sample = (mix(seed ^ index) >>> 11) * 0x1.0p-53;
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (sample < cumulativeWeights[i]) {
+                return roleSets.get(i);
+            }
+        }
+        return roleSets.getLast();
+    }
+
+    private static Set<String> toRoleNames(Set<Roles> roles) {
+        if (roles.isEmpty()) {
+            return null;
+        }
+        Set<String> names = new HashSet<>();
+        for (Roles role : roles) {
+            names.add(role.name());
+        }
+        return Collections.unmodifiableSet(names);
+    }
+
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
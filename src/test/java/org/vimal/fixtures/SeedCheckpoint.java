@@ -0,0 +1,18 @@
+package org.vimal.fixtures;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class SeedCheckpoint {
+    private String seedId;
+    private String operation;
+    private long total;
+    private long completed;
+    private long updatedAtEpochMillis;
+}
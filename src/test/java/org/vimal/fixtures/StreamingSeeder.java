@@ -0,0 +1,205 @@
+package org.vimal.fixtures;
+
+import io.restassured.response.Response;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+import org.vimal.dtos.RoleDto;
+import org.vimal.dtos.UserDto;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.vimal.api.AdminCallsUsingGlobalAdminUser.*;
+import static org.vimal.constants.Common.ENABLE;
+import static org.vimal.helpers.DtosHelper.createSeedRoleDto;
+import static org.vimal.helpers.DtosHelper.createSeedUserDto;
+import static org.vimal.utils.JsonUtility.fromJson;
+import static org.vimal.utils.JsonUtility.toJson;
+
+@Slf4j
+@Builder
+public class StreamingSeeder {
+    public enum Operation {
+        CREATE_USERS,
+        CREATE_ROLES,
+        DELETE_USERS,
+        DELETE_ROLES
+    }
+
+    @NonNull
+    private final String seedId;
+    @NonNull
+    private final Operation operation;
+    private final long total;
+    @Builder.Default
+    private final int batchSize = 34;
+    @Builder.Default
+    private final int concurrency = 4;
+    @Builder.Default
+    private final int maxAttemptsPerBatch = 3;
+    @Builder.Default
+    private final int checkpointEveryBatches = 20;
+    private final Path checkpointFile;
+    @Builder.Default
+    private final RoleDistribution roleDistribution = RoleDistribution.realistic(0);
+
+    public long run() throws IOException, ExecutionException, InterruptedException {
+        Progress progress = new Progress(resumeFrom());
+        long resumedAt = progress.watermark;
+        if (resumedAt > 0) {
+            log.info(
+                    "Resuming {} for seed '{}' at {} of {}.",
+                    operation,
+                    seedId,
+                    resumedAt,
+                    total
+            );
+        }
+        Semaphore inFlight = new Semaphore(concurrency);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long startNanos = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long from = resumedAt; from < total && failure.get() == null; from += batchSize) {
+                inFlight.acquire();
+                long batchFrom = from;
+                long batchTo = Math.min(total, from + batchSize);
+                executor.submit(() -> {
+                    try {
+                        sendWithRetries(batchFrom, batchTo);
+                        progress.batchCompleted(batchFrom, batchTo);
+                    } catch (Throwable ex) {
+                        failure.compareAndSet(null, ex);
+                    } finally {
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        long completed = progress.save();
+        double seconds = (System.nanoTime() - startNanos) / 1e9;
+        log.info(
+                "{} for seed '{}': {} of {} done, {} items/s this run.",
+                operation,
+                seedId,
+                completed,
+                total,
+                String.format("%.1f", (completed - resumedAt) / Math.max(seconds, 1e-9))
+        );
+        if (failure.get() != null) {
+            throw new ExecutionException("Seeding stopped at " + completed + " of " + total, failure.get());
+        }
+        return completed;
+    }
+
+    private long resumeFrom() throws IOException {
+        if (checkpointFile == null ||
+                !Files.exists(checkpointFile)) {
+            return 0;
+        }
+        SeedCheckpoint checkpoint = fromJson(checkpointFile, SeedCheckpoint.class);
+        if (!seedId.equals(checkpoint.getSeedId()) ||
+                !operation.name().equals(checkpoint.getOperation())) {
+            throw new IllegalStateException("Checkpoint " + checkpointFile + " belongs to " + checkpoint.getOperation() + " of seed '" + checkpoint.getSeedId() + "'");
+        }
+        return Math.min(checkpoint.getCompleted(), total);
+    }
+
+    private void sendWithRetries(long from,
+                                 long to) throws ExecutionException, InterruptedException {
+        Response response = null;
+        for (int attempt = 1; attempt <= maxAttemptsPerBatch; attempt++) {
+            response = send(from, to);
+            if (response.statusCode() == 200) {
+                return;
+            }
+            if (attempt < maxAttemptsPerBatch) {
+                Thread.sleep(200L << attempt);
+            }
+        }
+        throw new IllegalStateException(operation + " batch [" + from + ", " + to + ") failed with status " + response.statusCode() + ": " + response.asString());
+    }
+
+    private Response send(long from,
+                          long to) throws ExecutionException, InterruptedException {
+        return switch (operation) {
+            case CREATE_USERS -> {
+                Set<UserDto> users = new HashSet<>();
+                for (long i = from; i < to; i++) {
+                    users.add(createSeedUserDto(seedId, i, roleDistribution.rolesFor(i)));
+                }
+                yield createUsers(users, ENABLE);
+            }
+            case CREATE_ROLES -> {
+                Set<RoleDto> roles = new HashSet<>();
+                for (long i = from; i < to; i++) {
+                    roles.add(createSeedRoleDto(seedId, i));
+                }
+                yield createRoles(roles, ENABLE);
+            }
+            case DELETE_USERS -> {
+                Set<String> usernames = new HashSet<>();
+                for (long i = from; i < to; i++) {
+                    usernames.add(createSeedUserDto(seedId, i, null).getUsername());
+                }
+                yield deleteUsers(usernames, ENABLE, ENABLE);
+            }
+            case DELETE_ROLES -> {
+                Set<String> roleNames = new HashSet<>();
+                for (long i = from; i < to; i++) {
+                    roleNames.add(createSeedRoleDto(seedId, i).getRoleName());
+                }
+                yield deleteRoles(roleNames, ENABLE, ENABLE);
+            }
+        };
+    }
+
+    private final class Progress {
+        private final TreeSet<Long> completedAheadOfWatermark = new TreeSet<>();
+        private long watermark;
+        private int batchesSinceCheckpoint;
+
+        private Progress(long watermark) {
+            this.watermark = watermark;
+        }
+
+        private synchronized void batchCompleted(long from,
+                                                 long to) throws IOException {
+            if (from != watermark) {
+                completedAheadOfWatermark.add(from);
+                return;
+            }
+            watermark = to;
+            while (completedAheadOfWatermark.remove(watermark)) {
+                watermark = Math.min(total, watermark + batchSize);
+            }
+            if (++batchesSinceCheckpoint >= checkpointEveryBatches) {
+                save();
+            }
+        }
+
+        private synchronized long save() throws IOException {
+            batchesSinceCheckpoint = 0;
+            if (checkpointFile != null) {
+                Path parent = checkpointFile.toAbsolutePath().getParent();
+                if (parent != null) {
+                    Files.createDirectories(parent);
+                }
+                Path temporary = checkpointFile.resolveSibling(checkpointFile.getFileName() + ".tmp");
+                Files.writeString(temporary, toJson(new SeedCheckpoint(seedId, operation.name(), total, watermark, System.currentTimeMillis())));
+                Files.move(temporary, checkpointFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+            return watermark;
+        }
+    }
+}
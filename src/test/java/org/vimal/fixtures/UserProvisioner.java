@@ -0,0 +1,11 @@
+package org.vimal.fixtures;
+
+import org.vimal.dtos.UserDto;
+
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+
+@FunctionalInterface
+public interface UserProvisioner {
+    void provision(Set<UserDto> users) throws ExecutionException, InterruptedException;
+}
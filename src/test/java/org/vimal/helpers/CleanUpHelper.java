@@ -1,40 +1,202 @@
 package org.vimal.helpers;
 
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
 import org.vimal.dtos.RoleDto;
 import org.vimal.dtos.UserDto;
+import org.vimal.jfr.FixtureEvent;
 
-import java.util.HashSet;
-import java.util.Iterator;
-import java.util.Set;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.vimal.api.AdminCallsUsingGlobalAdminUser.deleteRoles;
 import static org.vimal.api.AdminCallsUsingGlobalAdminUser.deleteUsers;
 import static org.vimal.constants.Common.*;
+import static org.vimal.constants.SubPaths.ADMIN;
 
+@Slf4j
 public final class CleanUpHelper {
     private CleanUpHelper() {
     }
 
-    public static void cleanUpTestUsers(Object... inputs) {
-        Iterator<String> iterator = extractUsernames(inputs).iterator();
-        Set<String> batch = new HashSet<>();
-        while (iterator.hasNext()) {
-            batch.clear();
-            while (iterator.hasNext() &&
-                    batch.size() < MAX_BATCH_SIZE_OF_USER_DELETION_AT_A_TIME) {
-                batch.add(iterator.next());
-            }
-            try {
-                deleteUsers(
+    private static final int CLEANUP_PARALLELISM = Integer.getInteger("cleanup.parallelism", 4);
+    private static final int CLEANUP_MAX_ATTEMPTS = Integer.getInteger("cleanup.maxAttempts", 3);
+    private static final long CLEANUP_BACKOFF_MILLIS = Long.getLong("cleanup.backoffMillis", 200L);
+
+    public static CleanupReport cleanUpTestUsers(Object... inputs) {
+        return cleanUp(inputs, new Object[0]);
+    }
+
+    public static CleanupReport cleanUpTestRoles(Object... inputs) {
+        return cleanUp(new Object[0], inputs);
+    }
+
+    public static CleanupReport cleanUp(Object users,
+                                        Object roles) {
+        long startNanos = System.nanoTime();
+        Set<String> usernames = extractUsernames(users);
+        Set<String> roleNames = extractRolenames(roles);
+        Map<String, String> failedUsers = new ConcurrentHashMap<>();
+        Map<String, String> failedRoles = new ConcurrentHashMap<>();
+        AtomicInteger rolesForced = new AtomicInteger();
+        deleteConcurrently(
+                "cleanUpTestUsers",
+                ADMIN + "/delete/users",
+                usernames,
+                MAX_BATCH_SIZE_OF_USER_DELETION_AT_A_TIME,
+                batch -> deleteUsers(
+                        batch,
+                        ENABLE,
+                        ENABLE
+                ),
+                null,
+                failedUsers,
+                null
+        );
+        deleteConcurrently(
+                "cleanUpTestRoles",
+                ADMIN + "/delete/roles",
+                roleNames,
+                MAX_BATCH_SIZE_OF_ROLE_DELETION_AT_A_TIME,
+                batch -> deleteRoles(
+                        batch,
+                        DISABLE,
+                        ENABLE
+                ),
+                batch -> deleteRoles(
                         batch,
                         ENABLE,
                         ENABLE
-                );
-            } catch (Exception ignored) {
+                ),
+                failedRoles,
+                rolesForced
+        );
+        CleanupReport report = new CleanupReport(
+                usernames.size(),
+                roleNames.size(),
+                rolesForced.get(),
+                (System.nanoTime() - startNanos) / 1_000_000,
+                new TreeMap<>(failedUsers),
+                new TreeMap<>(failedRoles)
+        );
+        if (!report.isClean()) {
+            log.warn(
+                    "Cleanup left {} users and {} roles behind: users={} roles={}",
+                    failedUsers.size(),
+                    failedRoles.size(),
+                    report.getFailedUsers(),
+                    report.getFailedRoles()
+            );
+        }
+        return report;
+    }
+
+    private static void deleteConcurrently(String operation,
+                                           String endpoint,
+                                           Set<String> identifiers,
+                                           int batchSize,
+                                           BatchDelete delete,
+                                           BatchDelete forcedDelete,
+                                           Map<String, String> failures,
+                                           AtomicInteger forced) {
+        if (identifiers.isEmpty()) {
+            return;
+        }
+        List<Set<String>> batches = new ArrayList<>();
+        Set<String> batch = new HashSet<>();
+        for (String identifier : identifiers) {
+            batch.add(identifier);
+            if (batch.size() == batchSize) {
+                batches.add(batch);
+                batch = new HashSet<>();
+            }
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        try (ExecutorService executor = Executors.newFixedThreadPool(
+                Math.min(CLEANUP_PARALLELISM, batches.size()),
+                Thread.ofVirtual()
+                        .factory()
+        )) {
+            for (Set<String> pending : batches) {
+                executor.submit(() -> deleteBatch(operation, endpoint, pending, delete, forcedDelete, failures, forced));
             }
         }
     }
 
+    private static void deleteBatch(String operation,
+                                    String endpoint,
+                                    Set<String> batch,
+                                    BatchDelete delete,
+                                    BatchDelete forcedDelete,
+                                    Map<String, String> failures,
+                                    AtomicInteger forced) {
+        String failure = deleteWithRetries(operation, endpoint, batch, delete);
+        if (failure != null &&
+                forcedDelete != null) {
+            failure = deleteWithRetries(operation + "Forced", endpoint, batch, forcedDelete);
+            if (failure == null) {
+                forced.addAndGet(batch.size());
+            }
+        }
+        if (failure == null) {
+            return;
+        }
+        if (batch.size() == 1) {
+            failures.put(batch.iterator().next(), failure);
+            return;
+        }
+        for (String identifier : batch) {
+            deleteBatch(operation, endpoint, Set.of(identifier), delete, forcedDelete, failures, forced);
+        }
+    }
+
+    private static String deleteWithRetries(String operation,
+                                            String endpoint,
+                                            Set<String> batch,
+                                            BatchDelete delete) {
+        String failure = null;
+        for (int attempt = 1; attempt <= CLEANUP_MAX_ATTEMPTS; attempt++) {
+            FixtureEvent event = new FixtureEvent(operation, endpoint, batch.size());
+            event.begin();
+            boolean retryable;
+            try {
+                Response response = delete.execute(batch);
+                event.complete(response);
+                if (response.statusCode() == 200) {
+                    return null;
+                }
+                failure = response.statusCode() + " " + response.asString();
+                retryable = response.statusCode() == 429 ||
+                        response.statusCode() >= 500;
+            } catch (InterruptedException ex) {
+                event.fail();
+                Thread.currentThread().interrupt();
+                return ex.toString();
+            } catch (Exception ex) {
+                event.fail();
+                failure = ex.toString();
+                retryable = true;
+            }
+            if (!retryable) {
+                return failure;
+            }
+            if (attempt < CLEANUP_MAX_ATTEMPTS) {
+                try {
+                    Thread.sleep(CLEANUP_BACKOFF_MILLIS << (attempt - 1));
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                    return failure;
+                }
+            }
+        }
+        return failure;
+    }
+
     private static Set<String> extractUsernames(Object... inputs) {
         Set<String> result = new HashSet<>();
         for (Object input : inputs) {
@@ -59,26 +221,6 @@ public final class CleanUpHelper {
         return result;
     }
 
-    public static void cleanUpTestRoles(Object... inputs) {
-        Iterator<String> iterator = extractRolenames(inputs).iterator();
-        Set<String> batch = new HashSet<>();
-        while (iterator.hasNext()) {
-            batch.clear();
-            while (iterator.hasNext() &&
-                    batch.size() < MAX_BATCH_SIZE_OF_ROLE_DELETION_AT_A_TIME) {
-                batch.add(iterator.next());
-            }
-            try {
-                deleteRoles(
-                        batch,
-                        ENABLE,
-                        ENABLE
-                );
-            } catch (Exception ignored) {
-            }
-        }
-    }
-
     private static Set<String> extractRolenames(Object... inputs) {
         Set<String> result = new HashSet<>();
         for (Object input : inputs) {
@@ -102,4 +244,9 @@ public final class CleanUpHelper {
         }
         return result;
     }
+
+    @FunctionalInterface
+    private interface BatchDelete {
+        Response execute(Set<String> batch) throws Exception;
+    }
 }
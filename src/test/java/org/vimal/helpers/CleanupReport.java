@@ -0,0 +1,22 @@
+package org.vimal.helpers;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Map;
+
+@Getter
+@AllArgsConstructor
+public class CleanupReport {
+    private final int usersRequested;
+    private final int rolesRequested;
+    private final int rolesForced;
+    private final long durationMillis;
+    private final Map<String, String> failedUsers;
+    private final Map<String, String> failedRoles;
+
+    public boolean isClean() {
+        return failedUsers.isEmpty() &&
+                failedRoles.isEmpty();
+    }
+}
@@ -7,8 +7,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import static org.vimal.BaseTest.TEST_EMAIL;
-import static org.vimal.utils.DateTimeUtility.getCurrentFormattedLocalTimeStamp;
-import static org.vimal.utils.RandomStringUtility.generateRandomStringAlphaNumeric;
+import static org.vimal.utils.UniqueIdGenerator.nextId;
 
 public final class DtosHelper {
     private DtosHelper() {
@@ -38,15 +37,15 @@ public final class DtosHelper {
 
     public static String validRandomEmail() {
         int atIndex = TEST_EMAIL.indexOf('@');
-        return TEST_EMAIL.substring(0, atIndex) + "+" + getCurrentFormattedLocalTimeStamp() + "_" + generateRandomStringAlphaNumeric() + "@" + TEST_EMAIL.substring(atIndex + 1);
+        return TEST_EMAIL.substring(0, atIndex) + "+" + nextId() + "@" + TEST_EMAIL.substring(atIndex + 1);
     }
 
     public static UserDto createRandomUserDto(Set<String> roles) {
-        String randomString = getCurrentFormattedLocalTimeStamp() + "_" + generateRandomStringAlphaNumeric();
+        String uniqueId = nextId();
         return UserDto.builder()
-                .username("AutoTestUser_" + randomString)
-                .email("user_" + randomString + "@example.com")
-                .password("Password@1_" + randomString)
+                .username("AutoTestUser_" + uniqueId)
+                .email("user_" + uniqueId + "@example.com")
+                .password("Password@1_" + uniqueId)
                 .firstName("AutoTestUser")
                 .roles(roles)
                 .emailVerified(true)
@@ -67,11 +66,34 @@ public final class DtosHelper {
     }
 
     public static RoleDto createRandomRoleDto(Set<String> permissions) {
-        String randomString = getCurrentFormattedLocalTimeStamp() + "_" + generateRandomStringAlphaNumeric();
+        String uniqueId = nextId();
         return RoleDto.builder()
-                .roleName("AutoTestRole_" + randomString)
+                .roleName("AutoTestRole_" + uniqueId)
                 .description("Auto-generated role for testing purposes")
                 .permissions(permissions)
                 .build();
     }
+
+    public static UserDto createSeedUserDto(String seedId,
+                                            long index,
+                                            Set<String> roles) {
+        String suffix = seedId + "_" + Long.toString(index, 36);
+        return UserDto.builder()
+                .username("SeedUser_" + suffix)
+                .email("seed_" + suffix + "@example.com")
+                .password("Password@1_" + nextId())
+                .firstName("SeedUser")
+                .roles(roles)
+                .emailVerified(true)
+                .accountEnabled(true)
+                .build();
+    }
+
+    public static RoleDto createSeedRoleDto(String seedId,
+                                            long index) {
+        return RoleDto.builder()
+                .roleName("SeedRole_" + seedId + "_" + Long.toString(index, 36))
+                .description("Auto-generated role for scale testing")
+                .build();
+    }
 }
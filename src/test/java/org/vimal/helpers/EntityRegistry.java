@@ -0,0 +1,159 @@
+package org.vimal.helpers;
+
+import org.vimal.dtos.RoleDto;
+import org.vimal.dtos.UserDto;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+public final class EntityRegistry<T> extends AbstractSet<T> {
+    private final ConcurrentHashMap<String, T> entitiesByKey = new ConcurrentHashMap<>();
+    private final Map<T, String> registeredKeys = Collections.synchronizedMap(new IdentityHashMap<>());
+    private final Class<T> type;
+    private final Function<T, String> keyExtractor;
+
+    private EntityRegistry(Class<T> type,
+                           Function<T, String> keyExtractor) {
+        this.type = type;
+        this.keyExtractor = keyExtractor;
+    }
+
+    public static EntityRegistry<UserDto> ofUsers() {
+        return new EntityRegistry<>(UserDto.class, UserDto::getUsername);
+    }
+
+    public static EntityRegistry<RoleDto> ofRoles() {
+        return new EntityRegistry<>(RoleDto.class, RoleDto::getRoleName);
+    }
+
+    public T get(String key) {
+        if (key == null) {
+            return null;
+        }
+        T entity = entitiesByKey.get(key);
+        if (entity != null &&
+                key.equals(keyExtractor.apply(entity))) {
+            return entity;
+        }
+        resync();
+        return entitiesByKey.get(key);
+    }
+
+    public boolean containsKey(String key) {
+        return get(key) != null;
+    }
+
+    @Override
+    public boolean add(T entity) {
+        String key = Objects.requireNonNull(keyExtractor.apply(entity), "Registered entities must have a key");
+        if (registeredKeys.containsKey(entity)) {
+            resync();
+            return false;
+        }
+        if (entitiesByKey.putIfAbsent(key, entity) != null) {
+            resync();
+            if (entitiesByKey.putIfAbsent(key, entity) != null) {
+                return false;
+            }
+        }
+        registeredKeys.put(entity, key);
+        return true;
+    }
+
+    private void resync() {
+        List<Map.Entry<T, String>> snapshot;
+        synchronized (registeredKeys) {
+            snapshot = new ArrayList<>(registeredKeys.entrySet());
+        }
+        for (Map.Entry<T, String> registered : snapshot) {
+            T entity = registered.getKey();
+            String oldKey = registered.getValue();
+            String currentKey = keyExtractor.apply(entity);
+            if (currentKey == null ||
+                    currentKey.equals(oldKey) ||
+                    !entitiesByKey.remove(oldKey, entity)) {
+                continue;
+            }
+            if (entitiesByKey.putIfAbsent(currentKey, entity) == null) {
+                registeredKeys.put(entity, currentKey);
+            } else {
+                entitiesByKey.put(oldKey, entity);
+            }
+        }
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return containsKey(keyOf(o));
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        String key = keyOf(o);
+        if (key == null) {
+            return false;
+        }
+        T removed = entitiesByKey.remove(key);
+        if (removed == null) {
+            resync();
+            removed = entitiesByKey.remove(key);
+        }
+        if (removed == null) {
+            return false;
+        }
+        registeredKeys.remove(removed);
+        return true;
+    }
+
+    private String keyOf(Object o) {
+        if (!type.isInstance(o)) {
+            return null;
+        }
+        String registeredKey = registeredKeys.get(o);
+        return registeredKey != null ? registeredKey : keyExtractor.apply(type.cast(o));
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        Iterator<Map.Entry<String, T>> entries = entitiesByKey.entrySet()
+                .iterator();
+        return new Iterator<>() {
+            private T last;
+
+            @Override
+            public boolean hasNext() {
+                return entries.hasNext();
+            }
+
+            @Override
+            public T next() {
+                last = entries.next()
+                        .getValue();
+                return last;
+            }
+
+            @Override
+            public void remove() {
+                entries.remove();
+                registeredKeys.remove(last);
+            }
+        };
+    }
+
+    @Override
+    public int size() {
+        return entitiesByKey.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return entitiesByKey.isEmpty();
+    }
+
+    @Override
+    public void clear() {
+        entitiesByKey.clear();
+        registeredKeys.clear();
+    }
+}
@@ -0,0 +1,43 @@
+package org.vimal.jfr;
+
+import io.restassured.response.Response;
+import jdk.jfr.*;
+
+@Name("org.vimal.ApiCall")
+@Label("API Call")
+@Category({"API Testing", "HTTP"})
+@StackTrace(false)
+public class ApiCallEvent extends Event {
+    @Label("Method")
+    private final String method;
+    @Label("Endpoint")
+    private final String endpoint;
+    @Label("Status Code")
+    private int statusCode;
+    @Label("Response Size")
+    @DataAmount
+    private long responseBytes;
+
+    public ApiCallEvent(String method,
+                        String endpoint) {
+        this.method = method;
+        this.endpoint = endpoint;
+    }
+
+    public void complete(Response response) {
+        end();
+        if (shouldCommit()) {
+            statusCode = response.statusCode();
+            responseBytes = response.asByteArray().length;
+            commit();
+        }
+    }
+
+    public void fail() {
+        end();
+        if (shouldCommit()) {
+            statusCode = -1;
+            commit();
+        }
+    }
+}
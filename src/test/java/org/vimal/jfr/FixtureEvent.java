@@ -0,0 +1,47 @@
+package org.vimal.jfr;
+
+import io.restassured.response.Response;
+import jdk.jfr.*;
+
+@Name("org.vimal.Fixture")
+@Label("Fixture Operation")
+@Category({"API Testing", "Fixtures"})
+@StackTrace(false)
+public class FixtureEvent extends Event {
+    @Label("Operation")
+    private final String operation;
+    @Label("Endpoint")
+    private final String endpoint;
+    @Label("Entities")
+    private final int entities;
+    @Label("Status Code")
+    private int statusCode;
+    @Label("Response Size")
+    @DataAmount
+    private long responseBytes;
+
+    public FixtureEvent(String operation,
+                        String endpoint,
+                        int entities) {
+        this.operation = operation;
+        this.endpoint = endpoint;
+        this.entities = entities;
+    }
+
+    public void complete(Response response) {
+        end();
+        if (shouldCommit()) {
+            statusCode = response.statusCode();
+            responseBytes = response.asByteArray().length;
+            commit();
+        }
+    }
+
+    public void fail() {
+        end();
+        if (shouldCommit()) {
+            statusCode = -1;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package org.vimal.jfr;
+
+import jdk.jfr.*;
+
+@Name("org.vimal.MailFetch")
+@Label("Mail Fetch")
+@Category({"API Testing", "Mail"})
+@StackTrace(false)
+public class MailFetchEvent extends Event {
+    @Label("Endpoint")
+    private final String endpoint;
+    @Label("Subject")
+    private final String subject;
+    @Label("Polls")
+    private int polls;
+    @Label("Found")
+    private boolean found;
+    @Label("Content Size")
+    @DataAmount
+    private long contentBytes;
+
+    public MailFetchEvent(String endpoint,
+                          String subject) {
+        this.endpoint = endpoint;
+        this.subject = subject;
+    }
+
+    public void poll() {
+        polls++;
+    }
+
+    public void complete(String content) {
+        end();
+        if (shouldCommit()) {
+            found = content != null;
+            contentBytes = content == null ? 0 : content.length();
+            commit();
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package org.vimal.jfr;
+
+import jdk.jfr.*;
+
+@Name("org.vimal.QrDecode")
+@Label("QR Decode")
+@Category({"API Testing", "Client CPU"})
+@StackTrace(false)
+public class QrDecodeEvent extends Event {
+    @Label("Image Size")
+    @DataAmount
+    private final long imageBytes;
+    @Label("Decoded")
+    private boolean decoded;
+
+    public QrDecodeEvent(long imageBytes) {
+        this.imageBytes = imageBytes;
+    }
+
+    public void complete(boolean decoded) {
+        end();
+        if (shouldCommit()) {
+            this.decoded = decoded;
+            commit();
+        }
+    }
+}
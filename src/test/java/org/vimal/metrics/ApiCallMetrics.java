@@ -0,0 +1,171 @@
+package org.vimal.metrics;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.InstanceAlreadyExistsException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+@Slf4j
+public final class ApiCallMetrics implements ApiCallMetricsMXBean {
+    public static final ApiCallMetrics INSTANCE = new ApiCallMetrics();
+    private static final String OBJECT_NAME = "org.vimal:type=ApiCallMetrics";
+    private static final int RATE_WINDOW_SLOTS = 64;
+    private static final int RECENT_RATE_SECONDS = 10;
+    private final ConcurrentHashMap<String, EndpointMetrics> endpoints = new ConcurrentHashMap<>();
+    private final AtomicReferenceArray<RateWindow> rateSlots = new AtomicReferenceArray<>(RATE_WINDOW_SLOTS);
+    private volatile long resetAtNanos = System.nanoTime();
+
+    private ApiCallMetrics() {
+    }
+
+    public static synchronized void registerMBean() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            if (!server.isRegistered(name)) {
+                server.registerMBean(INSTANCE, name);
+                log.info("Registered API call metrics MBean as '{}'.", OBJECT_NAME);
+            }
+        } catch (InstanceAlreadyExistsException ignored) {
+        } catch (JMException ex) {
+            log.warn("Could not register API call metrics MBean.", ex);
+        }
+    }
+
+    public static long onRequestStart(String endpoint) {
+        INSTANCE.endpoints.computeIfAbsent(endpoint, EndpointMetrics::new)
+                .onStart();
+        return System.nanoTime();
+    }
+
+    public static void onRequestComplete(String endpoint,
+                                         long startNanos,
+                                         int statusCode) {
+        long now = System.nanoTime();
+        INSTANCE.endpoints.get(endpoint)
+                .onComplete(statusCode, now - startNanos);
+        INSTANCE.countForRate(now);
+    }
+
+    public static void onRequestFailed(String endpoint,
+                                       long startNanos) {
+        long now = System.nanoTime();
+        INSTANCE.endpoints.get(endpoint)
+                .onFailure(now - startNanos);
+        INSTANCE.countForRate(now);
+    }
+
+    private void countForRate(long nowNanos) {
+        long second = nowNanos / 1_000_000_000L;
+        int slot = (int) Math.floorMod(second, RATE_WINDOW_SLOTS);
+        RateWindow window = rateSlots.get(slot);
+        while (window == null ||
+                window.second != second) {
+            RateWindow rolled = new RateWindow(second);
+            if (rateSlots.compareAndSet(slot, window, rolled)) {
+                window = rolled;
+            } else {
+                window = rateSlots.get(slot);
+            }
+        }
+        window.count.increment();
+    }
+
+    @Override
+    public long getTotalRequests() {
+        long total = 0;
+        for (EndpointMetrics metrics : endpoints.values()) {
+            total += metrics.getRequests();
+        }
+        return total;
+    }
+
+    @Override
+    public long getInFlightRequests() {
+        long total = 0;
+        for (EndpointMetrics metrics : endpoints.values()) {
+            total += metrics.getInFlight();
+        }
+        return total;
+    }
+
+    @Override
+    public long getTotalErrors() {
+        long total = 0;
+        for (EndpointMetrics metrics : endpoints.values()) {
+            total += metrics.getErrors();
+        }
+        return total;
+    }
+
+    @Override
+    public double getThroughputPerSecond() {
+        double elapsedSeconds = (System.nanoTime() - resetAtNanos) / 1_000_000_000.0;
+        return elapsedSeconds <= 0 ? 0 : getTotalRequests() / elapsedSeconds;
+    }
+
+    @Override
+    public double getRecentThroughputPerSecond() {
+        long currentSecond = System.nanoTime() / 1_000_000_000L;
+        long total = 0;
+        long second;
+        for (int i = 1; i <= RECENT_RATE_SECONDS; i++) {
+            second = currentSecond - i;
+            int slot = (int) Math.floorMod(second, RATE_WINDOW_SLOTS);
+            RateWindow window = rateSlots.get(slot);
+            if (window != null &&
+                    window.second == second) {
+                total += window.count.sum();
+            }
+        }
+        return total / (double) RECENT_RATE_SECONDS;
+    }
+
+    @Override
+    public List<EndpointSnapshot> getEndpoints() {
+        List<EndpointSnapshot> snapshots = new ArrayList<>(endpoints.size());
+        for (EndpointMetrics metrics : endpoints.values()) {
+            snapshots.add(metrics.snapshot());
+        }
+        snapshots.sort(Comparator.comparing(EndpointSnapshot::getEndpoint));
+        return snapshots;
+    }
+
+    @Override
+    public void resetCounters() {
+        endpoints.values()
+                .forEach(EndpointMetrics::reset);
+        for (int i = 0; i < RATE_WINDOW_SLOTS; i++) {
+            rateSlots.set(i, null);
+        }
+        resetAtNanos = System.nanoTime();
+    }
+
+    @Override
+    public List<HistogramSnapshot> snapshotHistograms() {
+        List<HistogramSnapshot> snapshots = new ArrayList<>(endpoints.size());
+        for (EndpointMetrics metrics : endpoints.values()) {
+            snapshots.add(metrics.histogramSnapshot());
+        }
+        snapshots.sort(Comparator.comparing(HistogramSnapshot::getEndpoint));
+        return snapshots;
+    }
+
+    private static final class RateWindow {
+        private final long second;
+        private final LongAdder count = new LongAdder();
+
+        private RateWindow(long second) {
+            this.second = second;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.vimal.metrics;
+
+import java.util.List;
+
+public interface ApiCallMetricsMXBean {
+    long getTotalRequests();
+
+    long getInFlightRequests();
+
+    long getTotalErrors();
+
+    double getThroughputPerSecond();
+
+    double getRecentThroughputPerSecond();
+
+    List<EndpointSnapshot> getEndpoints();
+
+    void resetCounters();
+
+    List<HistogramSnapshot> snapshotHistograms();
+}
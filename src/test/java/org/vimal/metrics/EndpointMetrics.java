@@ -0,0 +1,86 @@
+package org.vimal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+final class EndpointMetrics {
+    private final String endpoint;
+    private final AtomicLong inFlight = new AtomicLong();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder clientErrors = new LongAdder();
+    private final LongAdder serverErrors = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    EndpointMetrics(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    void onStart() {
+        inFlight.incrementAndGet();
+    }
+
+    void onComplete(int statusCode,
+                    long durationNanos) {
+        inFlight.decrementAndGet();
+        requests.increment();
+        if (statusCode >= 500) {
+            serverErrors.increment();
+        } else if (statusCode >= 400) {
+            clientErrors.increment();
+        }
+        latency.record(durationNanos);
+    }
+
+    void onFailure(long durationNanos) {
+        inFlight.decrementAndGet();
+        requests.increment();
+        failures.increment();
+        latency.record(durationNanos);
+    }
+
+    long getInFlight() {
+        return inFlight.get();
+    }
+
+    long getRequests() {
+        return requests.sum();
+    }
+
+    long getErrors() {
+        return serverErrors.sum() + failures.sum();
+    }
+
+    EndpointSnapshot snapshot() {
+        long[] counts = latency.snapshotCounts();
+        return new EndpointSnapshot(
+                endpoint,
+                requests.sum(),
+                inFlight.get(),
+                clientErrors.sum(),
+                serverErrors.sum(),
+                failures.sum(),
+                latency.getMeanMillis(),
+                latency.getPercentileMillis(counts, 50),
+                latency.getPercentileMillis(counts, 95),
+                latency.getPercentileMillis(counts, 99),
+                latency.getMaxMillis()
+        );
+    }
+
+    HistogramSnapshot histogramSnapshot() {
+        return new HistogramSnapshot(
+                endpoint,
+                LatencyHistogram.bucketUpperBoundsMicros(),
+                latency.snapshotCounts()
+        );
+    }
+
+    void reset() {
+        requests.reset();
+        clientErrors.reset();
+        serverErrors.reset();
+        failures.reset();
+        latency.reset();
+    }
+}
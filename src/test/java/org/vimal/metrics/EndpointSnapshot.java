@@ -0,0 +1,20 @@
+package org.vimal.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class EndpointSnapshot {
+    private final String endpoint;
+    private final long requests;
+    private final long inFlight;
+    private final long clientErrors;
+    private final long serverErrors;
+    private final long failures;
+    private final double meanMillis;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+}
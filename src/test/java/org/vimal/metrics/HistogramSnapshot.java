@@ -0,0 +1,12 @@
+package org.vimal.metrics;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class HistogramSnapshot {
+    private final String endpoint;
+    private final long[] bucketUpperBoundsMicros;
+    private final long[] bucketCounts;
+}
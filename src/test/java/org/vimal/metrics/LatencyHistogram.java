@@ -0,0 +1,112 @@
+package org.vimal.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+public final class LatencyHistogram {
+    private static final long[] BUCKET_UPPER_BOUNDS_MICROS = buildBucketUpperBounds();
+    private final AtomicLongArray bucketCounts = new AtomicLongArray(BUCKET_UPPER_BOUNDS_MICROS.length + 1);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    private static long[] buildBucketUpperBounds() {
+        long[] bounds = new long[256];
+        int size = 0;
+        double bound = 50;
+        while (bound <= 300_000_000) {
+            bounds[size++] = (long) bound;
+            bound *= 1.1;
+        }
+        long[] result = new long[size];
+        System.arraycopy(bounds, 0, result, 0, size);
+        return result;
+    }
+
+    public void record(long durationNanos) {
+        long micros = Math.max(0, durationNanos / 1_000);
+        bucketCounts.incrementAndGet(bucketIndex(micros));
+        count.increment();
+        sumMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    private static int bucketIndex(long micros) {
+        int low = 0;
+        int high = BUCKET_UPPER_BOUNDS_MICROS.length;
+        int mid;
+        while (low < high) {
+            mid = (low + high) >>> 1;
+            if (BUCKET_UPPER_BOUNDS_MICROS[mid] < micros) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getMeanMillis() {
+        long total = count.sum();
+        return total == 0 ? 0 : sumMicros.sum() / (total * 1_000.0);
+    }
+
+    public double getMaxMillis() {
+        return maxMicros.get() / 1_000.0;
+    }
+
+    public double getPercentileMillis(double percentile) {
+        return getPercentileMillis(snapshotCounts(), percentile);
+    }
+
+    public double getPercentileMillis(long[] counts,
+                                      double percentile) {
+        return Math.min(percentileMicros(counts, percentile), maxMicros.get()) / 1_000.0;
+    }
+
+    public long[] snapshotCounts() {
+        long[] counts = new long[bucketCounts.length()];
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] = bucketCounts.get(i);
+        }
+        return counts;
+    }
+
+    public static long[] bucketUpperBoundsMicros() {
+        return BUCKET_UPPER_BOUNDS_MICROS.clone();
+    }
+
+    public static long percentileMicros(long[] counts,
+                                        double percentile) {
+        long total = 0;
+        for (long bucketCount : counts) {
+            total += bucketCount;
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long rank = (long) Math.ceil(total * percentile / 100.0);
+        long seen = 0;
+        for (int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if (seen >= rank) {
+                return i < BUCKET_UPPER_BOUNDS_MICROS.length ? BUCKET_UPPER_BOUNDS_MICROS[i] : Long.MAX_VALUE;
+            }
+        }
+        return Long.MAX_VALUE;
+    }
+
+    public void reset() {
+        for (int i = 0; i < bucketCounts.length(); i++) {
+            bucketCounts.set(i, 0);
+        }
+        count.reset();
+        sumMicros.reset();
+        maxMicros.set(0);
+    }
+}
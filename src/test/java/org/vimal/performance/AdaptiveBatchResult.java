@@ -0,0 +1,22 @@
+package org.vimal.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class AdaptiveBatchResult {
+    private final String operation;
+    private final long items;
+    private final long itemsSucceeded;
+    private final long batchesSent;
+    private final long batchesRetried;
+    private final int acceptedMaxBatchSize;
+    private final int finalBatchSize;
+    private final int finalConcurrency;
+    private final double itemsPerSecond;
+    private final double meanMillisPerItem;
+    private final List<String> failures;
+}
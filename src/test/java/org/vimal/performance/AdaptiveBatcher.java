@@ -0,0 +1,305 @@
+package org.vimal.performance;
+
+import io.restassured.response.Response;
+import lombok.Builder;
+import lombok.NonNull;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.regex.Pattern;
+
+@Slf4j
+@Builder
+public class AdaptiveBatcher<T> {
+    private static final ConcurrentHashMap<String, Integer> ACCEPTED_MAX_BATCH_SIZES = new ConcurrentHashMap<>();
+    private static final Pattern DEFAULT_BATCH_TOO_LARGE = Pattern.compile("(?i)at a time|more than|too many|exceed|maximum|batch size");
+
+    @NonNull
+    private final String operation;
+    @NonNull
+    private final BatchOperation<T> call;
+    private final int initialBatchSize;
+    @Builder.Default
+    private final int probeCeiling = 1_000;
+    @Builder.Default
+    private final int maxConcurrency = 32;
+    @Builder.Default
+    private final int windowBatches = 8;
+    @Builder.Default
+    private final double maxErrorRate = 0.02;
+    @Builder.Default
+    private final double tolerance = 0.05;
+    @Builder.Default
+    private final int maxAttemptsPerBatch = 3;
+    @Builder.Default
+    private final Pattern batchTooLarge = DEFAULT_BATCH_TOO_LARGE;
+
+    public static Map<String, Integer> getAcceptedMaxBatchSizes() {
+        return Map.copyOf(ACCEPTED_MAX_BATCH_SIZES);
+    }
+
+    public AdaptiveBatchResult run(Collection<T> items) throws InterruptedException {
+        return new Run(items).execute();
+    }
+
+    private final class Run {
+        private final Iterator<T> source;
+        private final long items;
+        private final Deque<PendingBatch> retries = new ArrayDeque<>();
+        private final List<String> failures = new ArrayList<>();
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition changed = lock.newCondition();
+        private boolean probing;
+        private int acceptedMax;
+        private int rejectedMin = Integer.MAX_VALUE;
+        private int batchSize;
+        private int concurrency = 1;
+        private int inFlight;
+        private long itemsSucceeded;
+        private long batchesSent;
+        private long batchesRetried;
+        private long itemNanos;
+        private int windowCompleted;
+        private int windowErrors;
+        private long windowItems;
+        private long windowStartNanos;
+        private double previousWindowItemsPerSecond;
+
+        private Run(Collection<T> items) {
+            this.source = items.iterator();
+            this.items = items.size();
+            Integer known = ACCEPTED_MAX_BATCH_SIZES.get(operation);
+            this.probing = known == null;
+            this.acceptedMax = known == null ? Math.max(1, initialBatchSize) : known;
+            this.batchSize = acceptedMax;
+        }
+
+        private AdaptiveBatchResult execute() throws InterruptedException {
+            long startNanos = System.nanoTime();
+            windowStartNanos = startNanos;
+            try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+                while (true) {
+                    PendingBatch batch;
+                    lock.lock();
+                    try {
+                        while (inFlight >= (probing ? 1 : concurrency) ||
+                                (retries.isEmpty() && !source.hasNext() && inFlight > 0)) {
+                            changed.await();
+                        }
+                        batch = nextBatch();
+                        if (batch == null) {
+                            break;
+                        }
+                        inFlight++;
+                        batchesSent++;
+                    } finally {
+                        lock.unlock();
+                    }
+                    executor.submit(() -> send(batch));
+                }
+            }
+            if (probing) {
+                batchSize = acceptedMax;
+                log.info(
+                        "{}: ran out of items while probing, not caching accepted max batch {}.",
+                        operation,
+                        acceptedMax
+                );
+            }
+            double seconds = Math.max((System.nanoTime() - startNanos) / 1e9, 1e-9);
+            AdaptiveBatchResult result = new AdaptiveBatchResult(
+                    operation,
+                    items,
+                    itemsSucceeded,
+                    batchesSent,
+                    batchesRetried,
+                    acceptedMax,
+                    batchSize,
+                    concurrency,
+                    itemsSucceeded / seconds,
+                    itemsSucceeded == 0 ? 0 : itemNanos / 1e6 / itemsSucceeded,
+                    List.copyOf(failures)
+            );
+            log.info(
+                    "{}: {} of {} items in {} batches, accepted max batch {}, converged on batch {} x concurrency {} at {} items/s.",
+                    operation,
+                    itemsSucceeded,
+                    items,
+                    batchesSent,
+                    acceptedMax,
+                    batchSize,
+                    concurrency,
+                    String.format("%.1f", result.getItemsPerSecond())
+            );
+            return result;
+        }
+
+        private PendingBatch nextBatch() {
+            PendingBatch retry = retries.pollFirst();
+            if (retry != null) {
+                if (retry.items.size() <= batchSize) {
+                    return retry;
+                }
+                List<T> all = new ArrayList<>(retry.items);
+                for (int from = batchSize; from < all.size(); from += batchSize) {
+                    retries.addFirst(new PendingBatch(new HashSet<>(all.subList(from, Math.min(all.size(), from + batchSize))), retry.attempt));
+                }
+                return new PendingBatch(new HashSet<>(all.subList(0, batchSize)), retry.attempt);
+            }
+            if (!source.hasNext()) {
+                return null;
+            }
+            Set<T> batch = new HashSet<>();
+            while (source.hasNext() &&
+                    batch.size() < batchSize) {
+                batch.add(source.next());
+            }
+            return new PendingBatch(batch, 1);
+        }
+
+        private void send(PendingBatch batch) {
+            long startNanos = System.nanoTime();
+            int status;
+            String failure = null;
+            try {
+                Response response = call.execute(batch.items);
+                status = response.statusCode();
+                if (status != 200) {
+                    failure = status + " " + response.asString();
+                }
+            } catch (Exception ex) {
+                status = -1;
+                failure = ex.toString();
+            }
+            completed(batch, status, failure, System.nanoTime() - startNanos);
+        }
+
+        private void completed(PendingBatch batch,
+                               int status,
+                               String failure,
+                               long elapsedNanos) {
+            lock.lock();
+            try {
+                inFlight--;
+                int size = batch.items.size();
+                if (status == 200) {
+                    itemsSucceeded += size;
+                    itemNanos += elapsedNanos;
+                    if (probing) {
+                        acceptedMax = Math.max(acceptedMax, size);
+                        if (size >= batchSize) {
+                            nextProbe();
+                        }
+                    }
+                    recordWindow(size, false);
+                } else if (status == 400 &&
+                        probing &&
+                        size > acceptedMax &&
+                        batchTooLarge.matcher(failure).find()) {
+                    rejectedMin = size;
+                    nextProbe();
+                    retries.addFirst(batch);
+                } else if (status == 400 ||
+                        batch.attempt >= maxAttemptsPerBatch) {
+                    failures.add(operation + " batch of " + size + " failed: " + failure);
+                    recordWindow(size, true);
+                } else {
+                    batchesRetried++;
+                    retries.addLast(new PendingBatch(batch.items, batch.attempt + 1));
+                    recordWindow(size, true);
+                }
+            } finally {
+                changed.signalAll();
+                lock.unlock();
+            }
+        }
+
+        private void nextProbe() {
+            if (rejectedMin == Integer.MAX_VALUE) {
+                if (acceptedMax >= probeCeiling) {
+                    finishProbe();
+                } else {
+                    batchSize = Math.min(probeCeiling, acceptedMax * 2);
+                }
+                return;
+            }
+            if (rejectedMin - acceptedMax <= Math.max(1, (int) (acceptedMax * tolerance))) {
+                finishProbe();
+            } else {
+                batchSize = acceptedMax + (rejectedMin - acceptedMax) / 2;
+            }
+        }
+
+        private void finishProbe() {
+            probing = false;
+            batchSize = acceptedMax;
+            ACCEPTED_MAX_BATCH_SIZES.put(operation, acceptedMax);
+            log.info(
+                    "{}: server accepted batches of up to {} items.",
+                    operation,
+                    acceptedMax
+            );
+        }
+
+        private void recordWindow(int size,
+                                  boolean error) {
+            if (probing) {
+                return;
+            }
+            windowCompleted++;
+            if (error) {
+                windowErrors++;
+            } else {
+                windowItems += size;
+            }
+            if (windowCompleted < Math.max(windowBatches, concurrency)) {
+                return;
+            }
+            long now = System.nanoTime();
+            double itemsPerSecond = windowItems / Math.max((now - windowStartNanos) / 1e9, 1e-9);
+            if ((double) windowErrors / windowCompleted > maxErrorRate) {
+                concurrency = Math.max(1, concurrency / 2);
+                batchSize = Math.max(1, batchSize / 2);
+            } else if (itemsPerSecond >= previousWindowItemsPerSecond * (1 - tolerance)) {
+                if (batchSize < acceptedMax) {
+                    batchSize = Math.min(acceptedMax, batchSize + Math.max(1, acceptedMax / 8));
+                } else if (concurrency < maxConcurrency) {
+                    concurrency++;
+                }
+            } else {
+                concurrency = Math.max(1, concurrency - 1);
+            }
+            log.debug(
+                    "{}: window {} items/s (previous {}), errors {}/{} -> batch {} x concurrency {}.",
+                    operation,
+                    String.format("%.1f", itemsPerSecond),
+                    String.format("%.1f", previousWindowItemsPerSecond),
+                    windowErrors,
+                    windowCompleted,
+                    batchSize,
+                    concurrency
+            );
+            previousWindowItemsPerSecond = itemsPerSecond;
+            windowCompleted = 0;
+            windowErrors = 0;
+            windowItems = 0;
+            windowStartNanos = now;
+        }
+    }
+
+    private final class PendingBatch {
+        private final Set<T> items;
+        private final int attempt;
+
+        private PendingBatch(Set<T> items,
+                             int attempt) {
+            this.items = items;
+            this.attempt = attempt;
+        }
+    }
+}
@@ -0,0 +1,137 @@
+package org.vimal.performance;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.vimal.BaseTest;
+import org.vimal.dtos.UserDto;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.vimal.api.AdminCalls.readUsers;
+import static org.vimal.api.AdminCalls.updateUsers;
+import static org.vimal.api.AdminCallsUsingGlobalAdminUser.createUsers;
+import static org.vimal.api.AdminCallsUsingGlobalAdminUser.deleteUsers;
+import static org.vimal.constants.Common.*;
+import static org.vimal.helpers.DtosHelper.createRandomUserDto;
+import static org.vimal.utils.JsonUtility.toJson;
+
+@Slf4j
+public class AdaptiveBatchingHarness extends BaseTest {
+    private static final int USERS = Integer.getInteger("adaptive.users", 5_000);
+    private static final int MAX_CONCURRENCY = Integer.getInteger("adaptive.maxConcurrency", 32);
+    private static final int PROBE_CEILING = Integer.getInteger("adaptive.probeCeiling", 1_000);
+    private static final String BATCH_TOO_LARGE_PATTERN = System.getProperty("adaptive.batchTooLargePattern");
+    private static final Path REPORT_FILE = Path.of(System.getProperty("adaptive.report", "target/adaptive-batching-report.json"));
+    private static final Map<String, AdaptiveBatchResult> RESULTS = new ConcurrentHashMap<>();
+
+    @Test
+    public void adaptive_Create_Read_Update_Delete_Users() throws InterruptedException {
+        List<UserDto> users = new ArrayList<>(USERS);
+        for (int i = 0; i < USERS; i++) {
+            users.add(createRandomUserDto());
+        }
+        record(batcher(
+                "POST /admin/create/users",
+                MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME,
+                (Set<UserDto> batch) -> {
+                    Response response = createUsers(
+                            batch,
+                            null
+                    );
+                    if (response.statusCode() == 200) {
+                        TEST_USERS.addAll(batch);
+                    }
+                    return response;
+                }
+        ).run(users));
+        List<String> usernames = new ArrayList<>(USERS);
+        for (UserDto user : users) {
+            usernames.add(user.getUsername());
+        }
+        record(batcher(
+                "GET /admin/read/users",
+                MAX_BATCH_SIZE_OF_USER_READ_AT_A_TIME,
+                (Set<String> batch) -> readUsers(
+                        GLOBAL_ADMIN_ACCESS_TOKEN,
+                        batch,
+                        null
+                )
+        ).run(usernames));
+        List<UserDto> updates = new ArrayList<>(USERS);
+        for (UserDto user : users) {
+            updates.add(user.toBuilder()
+                    .oldUsername(user.getUsername())
+                    .firstName("Updated")
+                    .build());
+        }
+        record(batcher(
+                "PUT /admin/update/users",
+                MAX_BATCH_SIZE_OF_USER_UPDATE_AT_A_TIME,
+                (Set<UserDto> batch) -> updateUsers(
+                        GLOBAL_ADMIN_ACCESS_TOKEN,
+                        batch,
+                        null
+                )
+        ).run(updates));
+        record(batcher(
+                "DELETE /admin/delete/users",
+                MAX_BATCH_SIZE_OF_USER_DELETION_AT_A_TIME,
+                (Set<String> batch) -> {
+                    Response response = deleteUsers(
+                            batch,
+                            ENABLE,
+                            null
+                    );
+                    if (response.statusCode() == 200) {
+                        batch.forEach(username -> TEST_USERS.remove(UserDto.builder()
+                                .username(username)
+                                .build()));
+                    }
+                    return response;
+                }
+        ).run(usernames));
+        List<String> failures = new ArrayList<>();
+        RESULTS.values().forEach(result -> failures.addAll(result.getFailures()));
+        assertThat(failures, empty());
+    }
+
+    private static <T> AdaptiveBatcher<T> batcher(String operation,
+                                                  int initialBatchSize,
+                                                  BatchOperation<T> call) {
+        AdaptiveBatcher.AdaptiveBatcherBuilder<T> builder = AdaptiveBatcher.<T>builder()
+                .operation(operation)
+                .initialBatchSize(initialBatchSize)
+                .call(call)
+                .maxConcurrency(MAX_CONCURRENCY)
+                .probeCeiling(PROBE_CEILING);
+        if (BATCH_TOO_LARGE_PATTERN != null) {
+            builder.batchTooLarge(Pattern.compile(BATCH_TOO_LARGE_PATTERN));
+        }
+        return builder.build();
+    }
+
+    private static void record(AdaptiveBatchResult result) {
+        RESULTS.put(result.getOperation(), result);
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void writeAdaptiveBatchingReport() throws IOException {
+        if (RESULTS.isEmpty()) {
+            return;
+        }
+        if (REPORT_FILE.getParent() != null) {
+            Files.createDirectories(REPORT_FILE.getParent());
+        }
+        Files.writeString(REPORT_FILE, toJson(new TreeMap<>(RESULTS)));
+        log.info("Adaptive batching report written to '{}'.", REPORT_FILE);
+    }
+}
@@ -0,0 +1,332 @@
+package org.vimal.performance;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.Test;
+import org.vimal.BaseTest;
+import org.vimal.dtos.UserDto;
+import org.vimal.metrics.LatencyHistogram;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.vimal.api.AdminCalls.readUsers;
+import static org.vimal.api.AdminCalls.updateUsers;
+import static org.vimal.api.AuthenticationCalls.getAccessToken;
+import static org.vimal.constants.Common.*;
+import static org.vimal.enums.Roles.ROLE_SUPER_ADMIN;
+import static org.vimal.helpers.DtosHelper.createRandomUserDto;
+
+@Slf4j
+public class AdminUpdateContentionHarness extends BaseTest {
+    private static final int ADMINS = Integer.getInteger("contention.admins", 4);
+    private static final int USERS_PER_ADMIN = Math.min(
+            Integer.getInteger("contention.usersPerAdmin", 20),
+            MAX_BATCH_SIZE_OF_USER_UPDATE_AT_A_TIME
+    );
+    private static final int ROUNDS = Integer.getInteger("contention.rounds", 3);
+    private static final String OVERLAPS = System.getProperty("contention.overlaps", "0,0.25,0.5,0.75,1");
+
+    @Test
+    public void contention_Update_Users_With_Growing_Overlap() throws ExecutionException, InterruptedException {
+        Set<UserDto> admins = new HashSet<>();
+        for (int i = 0; i < ADMINS; i++) {
+            admins.add(createRandomUserDto(Set.of(ROLE_SUPER_ADMIN.name())));
+        }
+        createTestUsers(admins);
+        List<String> accessTokens = new ArrayList<>();
+        for (UserDto admin : admins) {
+            accessTokens.add(getAccessToken(
+                    admin.getUsername(),
+                    admin.getPassword()
+            ));
+        }
+        List<String> violations = new ArrayList<>();
+        for (String overlap : OVERLAPS.split(",")) {
+            violations.addAll(runOverlapLevel(
+                    accessTokens,
+                    Double.parseDouble(overlap.trim())
+            ));
+        }
+        assertThat(violations, empty());
+    }
+
+    private List<String> runOverlapLevel(List<String> accessTokens,
+                                         double overlap) throws ExecutionException, InterruptedException {
+        int sharedCount = (int) Math.round(overlap * USERS_PER_ADMIN);
+        int exclusiveCount = USERS_PER_ADMIN - sharedCount;
+        List<UserDto> shared = new ArrayList<>();
+        List<List<UserDto>> exclusive = new ArrayList<>();
+        Set<UserDto> toCreate = new HashSet<>();
+        for (int i = 0; i < sharedCount; i++) {
+            shared.add(createRandomUserDto());
+        }
+        toCreate.addAll(shared);
+        for (int admin = 0; admin < accessTokens.size(); admin++) {
+            List<UserDto> users = new ArrayList<>();
+            for (int i = 0; i < exclusiveCount; i++) {
+                users.add(createRandomUserDto());
+            }
+            exclusive.add(users);
+            toCreate.addAll(users);
+        }
+        createTestUsers(toCreate);
+        LatencyHistogram latency = new LatencyHistogram();
+        List<String> violations = new ArrayList<>();
+        int failedCalls = 0;
+        for (int round = 0; round < ROUNDS; round++) {
+            List<Set<UserDto>> batches = new ArrayList<>();
+            for (int admin = 0; admin < accessTokens.size(); admin++) {
+                batches.add(buildBatch(admin, round, shared, exclusive.get(admin)));
+            }
+            List<Integer> statuses = fireConcurrently(accessTokens, batches, latency);
+            Set<Integer> succeededWriters = new HashSet<>();
+            for (int admin = 0; admin < statuses.size(); admin++) {
+                if (statuses.get(admin) == 200) {
+                    succeededWriters.add(admin);
+                } else {
+                    failedCalls++;
+                }
+            }
+            List<List<UserDto>> renamed = new ArrayList<>();
+            for (int admin = 0; admin < batches.size(); admin++) {
+                List<UserDto> renames = new ArrayList<>();
+                for (UserDto input : batches.get(admin)) {
+                    if (!input.getUsername().equals(input.getOldUsername())) {
+                        renames.add(input);
+                    }
+                }
+                renamed.add(renames);
+                if (succeededWriters.contains(admin)) {
+                    TEST_USERS.addAll(renames);
+                }
+            }
+            violations.addAll(verifyRound(
+                    accessTokens.getFirst(),
+                    overlap,
+                    round,
+                    shared,
+                    renamed,
+                    succeededWriters
+            ));
+            for (int admin : succeededWriters) {
+                exclusive.set(admin, renamed.get(admin));
+            }
+        }
+        log.info(
+                "Overlap {} ({} shared of {} per admin, {} admins): p50={}ms p95={}ms max={}ms failedCalls={} violations={}",
+                overlap,
+                sharedCount,
+                USERS_PER_ADMIN,
+                accessTokens.size(),
+                String.format("%.1f", latency.getPercentileMillis(50)),
+                String.format("%.1f", latency.getPercentileMillis(95)),
+                String.format("%.1f", latency.getMaxMillis()),
+                failedCalls,
+                violations.size()
+        );
+        return violations;
+    }
+
+    private static Set<UserDto> buildBatch(int admin,
+                                           int round,
+                                           List<UserDto> shared,
+                                           List<UserDto> exclusive) {
+        Set<UserDto> batch = new HashSet<>();
+        for (UserDto user : shared) {
+            batch.add(updateInput(user, user.getUsername(), admin, round));
+        }
+        for (UserDto user : exclusive) {
+            batch.add(updateInput(user, createRandomUserDto().getUsername(), admin, round));
+        }
+        return batch;
+    }
+
+    private static UserDto updateInput(UserDto user,
+                                       String newUsername,
+                                       int admin,
+                                       int round) {
+        return user.toBuilder()
+                .oldUsername(user.getUsername())
+                .username(newUsername)
+                .firstName("Writer" + letters(admin))
+                .middleName("W" + letters(admin))
+                .lastName("R" + letters(round) + "W" + letters(admin))
+                .build();
+    }
+
+    private static String letters(int value) {
+        StringBuilder sb = new StringBuilder();
+        do {
+            sb.append((char) ('a' + value % 26));
+            value /= 26;
+        } while (value > 0);
+        return sb.reverse()
+                .toString();
+    }
+
+    private static List<Integer> fireConcurrently(List<String> accessTokens,
+                                                  List<Set<UserDto>> batches,
+                                                  LatencyHistogram latency) throws InterruptedException, ExecutionException {
+        CountDownLatch startGate = new CountDownLatch(1);
+        List<Future<Integer>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int admin = 0; admin < accessTokens.size(); admin++) {
+                String accessToken = accessTokens.get(admin);
+                Set<UserDto> batch = batches.get(admin);
+                futures.add(executor.submit(() -> {
+                    startGate.await();
+                    long start = System.nanoTime();
+                    Response response = updateUsers(
+                            accessToken,
+                            batch,
+                            null
+                    );
+                    latency.record(System.nanoTime() - start);
+                    return response.statusCode();
+                }));
+            }
+            startGate.countDown();
+            List<Integer> statuses = new ArrayList<>();
+            for (Future<Integer> future : futures) {
+                statuses.add(future.get());
+            }
+            return statuses;
+        }
+    }
+
+    private static List<String> verifyRound(String accessToken,
+                                            double overlap,
+                                            int round,
+                                            List<UserDto> shared,
+                                            List<List<UserDto>> renamed,
+                                            Set<Integer> succeededWriters) throws ExecutionException, InterruptedException {
+        List<String> violations = new ArrayList<>();
+        String label = "overlap " + overlap + " round " + round + ": ";
+        Map<String, Map<String, String>> found = readAll(accessToken, shared, renamed);
+        Map<Integer, Set<Integer>> mustPrecede = new HashMap<>();
+        for (UserDto user : shared) {
+            Map<String, String> state = found.get(user.getUsername());
+            if (state == null) {
+                violations.add(label + "shared user '" + user.getUsername() + "' disappeared");
+                continue;
+            }
+            Integer winner = decodeWriter(state, round);
+            if (winner == null) {
+                if (!succeededWriters.isEmpty()) {
+                    violations.add(label + "user '" + user.getUsername() + "' has a torn or stale state " + state);
+                }
+                continue;
+            }
+            if (!succeededWriters.contains(winner)) {
+                violations.add(label + "user '" + user.getUsername() + "' carries the write of failed admin " + winner);
+                continue;
+            }
+            for (Integer writer : succeededWriters) {
+                if (!writer.equals(winner)) {
+                    mustPrecede.computeIfAbsent(writer, k -> new HashSet<>())
+                            .add(winner);
+                }
+            }
+        }
+        if (hasCycle(succeededWriters, mustPrecede)) {
+            violations.add(label + "final shared state is not consistent with any serial order of the admin batches");
+        }
+        for (int admin = 0; admin < renamed.size(); admin++) {
+            for (UserDto rename : renamed.get(admin)) {
+                boolean oldNameFound = found.containsKey(rename.getOldUsername());
+                boolean newNameFound = found.containsKey(rename.getUsername());
+                if (succeededWriters.contains(admin) &&
+                        (oldNameFound || !newNameFound)) {
+                    violations.add(label + "rename of '" + rename.getOldUsername() + "' by admin " + admin + " was lost");
+                } else if (!succeededWriters.contains(admin) &&
+                        newNameFound) {
+                    violations.add(label + "failed batch of admin " + admin + " still renamed '" + rename.getOldUsername() + "'");
+                }
+            }
+        }
+        return violations;
+    }
+
+    private static Map<String, Map<String, String>> readAll(String accessToken,
+                                                            List<UserDto> shared,
+                                                            List<List<UserDto>> renamed) throws ExecutionException, InterruptedException {
+        List<String> usernames = new ArrayList<>();
+        for (UserDto user : shared) {
+            usernames.add(user.getUsername());
+        }
+        for (List<UserDto> renames : renamed) {
+            for (UserDto rename : renames) {
+                usernames.add(rename.getOldUsername());
+                usernames.add(rename.getUsername());
+            }
+        }
+        Map<String, Map<String, String>> found = new HashMap<>();
+        for (int from = 0; from < usernames.size(); from += MAX_BATCH_SIZE_OF_USER_READ_AT_A_TIME) {
+            Response response = readUsers(
+                    accessToken,
+                    new HashSet<>(usernames.subList(from, Math.min(from + MAX_BATCH_SIZE_OF_USER_READ_AT_A_TIME, usernames.size()))),
+                    ENABLE
+            );
+            List<Map<String, String>> users = response.statusCode() == 200 ?
+                    response.jsonPath().getList("found_users") :
+                    List.of();
+            for (Map<String, String> user : users) {
+                found.put(user.get("username"), user);
+            }
+        }
+        return found;
+    }
+
+    private static Integer decodeWriter(Map<String, String> state,
+                                        int round) {
+        String firstName = state.get("firstName");
+        String middleName = state.get("middleName");
+        String lastName = state.get("lastName");
+        if (firstName == null ||
+                middleName == null ||
+                lastName == null ||
+                !firstName.startsWith("Writer")) {
+            return null;
+        }
+        String writer = firstName.substring(6);
+        if (!middleName.equals("W" + writer) ||
+                !lastName.equals("R" + letters(round) + "W" + writer)) {
+            return null;
+        }
+        int value = 0;
+        for (char c : writer.toCharArray()) {
+            value = value * 26 + (c - 'a');
+        }
+        return value;
+    }
+
+    private static boolean hasCycle(Set<Integer> writers,
+                                    Map<Integer, Set<Integer>> mustPrecede) {
+        Map<Integer, Integer> inDegree = new HashMap<>();
+        for (Integer writer : writers) {
+            inDegree.put(writer, 0);
+        }
+        mustPrecede.values()
+                .forEach(successors -> successors.forEach(successor -> inDegree.merge(successor, 1, Integer::sum)));
+        Deque<Integer> ready = new ArrayDeque<>();
+        inDegree.forEach((writer, degree) -> {
+            if (degree == 0) {
+                ready.add(writer);
+            }
+        });
+        int ordered = 0;
+        Integer writer;
+        while ((writer = ready.poll()) != null) {
+            ordered++;
+            for (Integer successor : mustPrecede.getOrDefault(writer, Set.of())) {
+                if (inDegree.merge(successor, -1, Integer::sum) == 0) {
+                    ready.add(successor);
+                }
+            }
+        }
+        return ordered < writers.size();
+    }
+}
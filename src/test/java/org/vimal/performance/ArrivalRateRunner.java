@@ -0,0 +1,150 @@
+package org.vimal.performance;
+
+import io.restassured.response.Response;
+import org.vimal.metrics.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+public final class ArrivalRateRunner {
+    private ArrivalRateRunner() {
+    }
+
+    private static final int DEFAULT_MAX_OUTSTANDING = 10_000;
+    private static final Duration DRAIN_TIMEOUT = Duration.ofSeconds(60);
+
+    public static LoadStepResult run(LoadOperation operation,
+                                     double ratePerSecond,
+                                     Duration duration) throws InterruptedException {
+        return run(
+                operation,
+                ratePerSecond,
+                duration,
+                DEFAULT_MAX_OUTSTANDING
+        );
+    }
+
+    public static LoadStepResult run(LoadOperation operation,
+                                     double ratePerSecond,
+                                     Duration duration,
+                                     int maxOutstanding) throws InterruptedException {
+        LatencyHistogram latency = new LatencyHistogram();
+        LongAdder succeeded = new LongAdder();
+        LongAdder failed = new LongAdder();
+        long dropped = 0;
+        long attempted = 0;
+        AtomicLong outstanding = new AtomicLong();
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long startNanos = System.nanoTime();
+        long endNanos = startNanos + duration.toNanos();
+        long intendedStartNanos = startNanos;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            while (intendedStartNanos < endNanos) {
+                long waitNanos = intendedStartNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                attempted++;
+                if (outstanding.incrementAndGet() > maxOutstanding) {
+                    outstanding.decrementAndGet();
+                    dropped++;
+                } else {
+                    long scheduledAt = intendedStartNanos;
+                    executor.execute(() -> {
+                        boolean success;
+                        try {
+                            success = operation.execute();
+                        } catch (Exception | AssertionError ex) {
+                            success = false;
+                        }
+                        latency.record(System.nanoTime() - scheduledAt);
+                        if (success) {
+                            succeeded.increment();
+                        } else {
+                            failed.increment();
+                        }
+                        outstanding.decrementAndGet();
+                    });
+                }
+                intendedStartNanos += intervalNanos;
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1_000_000_000.0;
+        long completed = succeeded.sum() + failed.sum();
+        long unfinished = attempted - dropped - completed;
+        long[] counts = latency.snapshotCounts();
+        double maxMillis = latency.getMaxMillis();
+        return new LoadStepResult(
+                ratePerSecond,
+                completed / elapsedSeconds,
+                attempted,
+                succeeded.sum(),
+                failed.sum() + unfinished,
+                dropped,
+                Math.min(LatencyHistogram.percentileMicros(counts, 50) / 1_000.0, maxMillis),
+                Math.min(LatencyHistogram.percentileMicros(counts, 95) / 1_000.0, maxMillis),
+                Math.min(LatencyHistogram.percentileMicros(counts, 99) / 1_000.0, maxMillis),
+                maxMillis,
+                counts
+        );
+    }
+
+    public static List<Attempt> runAttempts(IndexedOperation operation,
+                                            double ratePerSecond,
+                                            int attempts) throws InterruptedException {
+        ConcurrentLinkedQueue<Attempt> results = new ConcurrentLinkedQueue<>();
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long startNanos = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < attempts; i++) {
+                long intendedStartNanos = startNanos + i * intervalNanos;
+                long waitNanos = intendedStartNanos - System.nanoTime();
+                if (waitNanos > 0) {
+                    LockSupport.parkNanos(waitNanos);
+                }
+                int index = i;
+                executor.execute(() -> {
+                    long sentNanos = System.nanoTime();
+                    int statusCode = -1;
+                    String message = null;
+                    try {
+                        Response response = operation.execute(index);
+                        statusCode = response.statusCode();
+                        message = response.jsonPath()
+                                .getString("message");
+                    } catch (Exception | AssertionError ex) {
+                        message = ex.getClass()
+                                .getSimpleName();
+                    }
+                    results.add(new Attempt(
+                            index,
+                            sentNanos - startNanos,
+                            System.nanoTime() - sentNanos,
+                            statusCode,
+                            message
+                    ));
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(DRAIN_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS)) {
+                executor.shutdownNow();
+            }
+        }
+        List<Attempt> ordered = new ArrayList<>(results);
+        ordered.sort(Comparator.comparingInt(Attempt::getIndex));
+        return ordered;
+    }
+}
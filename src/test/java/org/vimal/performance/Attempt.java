@@ -0,0 +1,22 @@
+package org.vimal.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class Attempt {
+    private final int index;
+    private final long sentAfterNanos;
+    private final long latencyNanos;
+    private final int statusCode;
+    private final String message;
+
+    public double getLatencyMillis() {
+        return latencyNanos / 1_000_000.0;
+    }
+
+    public double getSentAfterMillis() {
+        return sentAfterNanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,10 @@
+package org.vimal.performance;
+
+import io.restassured.response.Response;
+
+import java.util.Set;
+
+@FunctionalInterface
+public interface BatchOperation<T> {
+    Response execute(Set<T> batch) throws Exception;
+}
@@ -0,0 +1,99 @@
+package org.vimal.performance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.vimal.BaseTest;
+import org.vimal.fixtures.RoleDistribution;
+import org.vimal.fixtures.SeedCheckpoint;
+import org.vimal.fixtures.StreamingSeeder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ExecutionException;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.vimal.constants.Common.MAX_BATCH_SIZE_OF_ROLE_CREATION_AT_A_TIME;
+import static org.vimal.constants.Common.MAX_BATCH_SIZE_OF_ROLE_DELETION_AT_A_TIME;
+import static org.vimal.constants.Common.MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME;
+import static org.vimal.constants.Common.MAX_BATCH_SIZE_OF_USER_DELETION_AT_A_TIME;
+import static org.vimal.utils.JsonUtility.fromJson;
+import static org.vimal.utils.UniqueIdGenerator.getRunPrefix;
+
+@Slf4j
+public class BulkSeedingHarness extends BaseTest {
+    private static final long USERS = Long.getLong("seed.users", 1_000L);
+    private static final long ROLES = Long.getLong("seed.roles", 0L);
+    private static final int CONCURRENCY = Integer.getInteger("seed.concurrency", 4);
+    private static final String DISTRIBUTION = System.getProperty("seed.distribution");
+    private static final boolean CLEANUP = Boolean.parseBoolean(System.getProperty("seed.cleanup", "true"));
+    private static final Path CHECKPOINT_DIRECTORY = Path.of(System.getProperty("seed.checkpointDir", "target/seed"));
+    private String seedId;
+
+    @BeforeClass
+    public void resolveSeedId() throws IOException {
+        seedId = System.getProperty("seed.id");
+        if (seedId == null) {
+            Path checkpoint = checkpointFile(StreamingSeeder.Operation.CREATE_USERS);
+            seedId = Files.exists(checkpoint) ?
+                    fromJson(checkpoint, SeedCheckpoint.class).getSeedId() :
+                    getRunPrefix();
+        }
+        log.info(
+                "Seeding with id '{}' (checkpoints in '{}').",
+                seedId,
+                CHECKPOINT_DIRECTORY
+        );
+    }
+
+    @Test
+    public void seed_Users() throws IOException, ExecutionException, InterruptedException {
+        seed(StreamingSeeder.Operation.CREATE_USERS, USERS, MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME);
+    }
+
+    @Test
+    public void seed_Roles() throws IOException, ExecutionException, InterruptedException {
+        seed(StreamingSeeder.Operation.CREATE_ROLES, ROLES, MAX_BATCH_SIZE_OF_ROLE_CREATION_AT_A_TIME);
+    }
+
+    @Test(dependsOnMethods = {"seed_Users", "seed_Roles"})
+    public void seed_Cleanup() throws IOException, ExecutionException, InterruptedException {
+        if (!CLEANUP) {
+            log.info("Keeping seeded data; rerun with -Dseed.id={} to delete it.", seedId);
+            return;
+        }
+        seed(StreamingSeeder.Operation.DELETE_USERS, USERS, MAX_BATCH_SIZE_OF_USER_DELETION_AT_A_TIME);
+        seed(StreamingSeeder.Operation.DELETE_ROLES, ROLES, MAX_BATCH_SIZE_OF_ROLE_DELETION_AT_A_TIME);
+        for (StreamingSeeder.Operation operation : StreamingSeeder.Operation.values()) {
+            Files.deleteIfExists(checkpointFile(operation));
+        }
+    }
+
+    private void seed(StreamingSeeder.Operation operation,
+                      long total,
+                      int batchSize) throws IOException, ExecutionException, InterruptedException {
+        if (total <= 0) {
+            return;
+        }
+        long seedHash = seedId.hashCode();
+        long completed = StreamingSeeder.builder()
+                .seedId(seedId)
+                .operation(operation)
+                .total(total)
+                .batchSize(batchSize)
+                .concurrency(CONCURRENCY)
+                .checkpointFile(checkpointFile(operation))
+                .roleDistribution(DISTRIBUTION == null ?
+                        RoleDistribution.realistic(seedHash) :
+                        RoleDistribution.parse(DISTRIBUTION, seedHash))
+                .build()
+                .run();
+        assertThat(completed, equalTo(total));
+    }
+
+    private static Path checkpointFile(StreamingSeeder.Operation operation) {
+        return CHECKPOINT_DIRECTORY.resolve(operation.name().toLowerCase() + ".json");
+    }
+}
@@ -0,0 +1,18 @@
+package org.vimal.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@AllArgsConstructor
+public class CapacityResult {
+    private final String operation;
+    private final double maxSustainableRatePerSecond;
+    private final boolean limitedByMaxRate;
+    private final double latencyPercentile;
+    private final double latencySloMillis;
+    private final double maxErrorRate;
+    private final List<LoadStepResult> steps;
+}
@@ -0,0 +1,8 @@
+package org.vimal.performance;
+
+import io.restassured.response.Response;
+
+@FunctionalInterface
+public interface IndexedOperation {
+    Response execute(int index) throws Exception;
+}
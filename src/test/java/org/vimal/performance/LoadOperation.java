@@ -0,0 +1,6 @@
+package org.vimal.performance;
+
+@FunctionalInterface
+public interface LoadOperation {
+    boolean execute() throws Exception;
+}
@@ -0,0 +1,47 @@
+package org.vimal.performance;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.vimal.metrics.LatencyHistogram;
+
+@Getter
+@AllArgsConstructor
+public class LoadStepResult {
+    private final double targetRatePerSecond;
+    private final double achievedRatePerSecond;
+    private final long attempted;
+    private final long succeeded;
+    private final long failed;
+    private final long dropped;
+    private final double p50Millis;
+    private final double p95Millis;
+    private final double p99Millis;
+    private final double maxMillis;
+    @JsonIgnore
+    private final long[] latencyBucketCounts;
+
+    public double getErrorRate() {
+        return attempted == 0 ? 0 : (failed + dropped) / (double) attempted;
+    }
+
+    public double getLatencyMillisAtPercentile(double percentile) {
+        return Math.min(LatencyHistogram.percentileMicros(latencyBucketCounts, percentile) / 1_000.0, maxMillis);
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "target=%.1f/s achieved=%.1f/s attempted=%d failed=%d dropped=%d p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                targetRatePerSecond,
+                achievedRatePerSecond,
+                attempted,
+                failed,
+                dropped,
+                p50Millis,
+                p95Millis,
+                p99Millis,
+                maxMillis
+        );
+    }
+}
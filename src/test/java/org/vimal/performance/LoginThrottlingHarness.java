@@ -0,0 +1,114 @@
+package org.vimal.performance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.vimal.BaseTest;
+import org.vimal.dtos.UserDto;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.vimal.api.AuthenticationCalls.login;
+import static org.vimal.helpers.DtosHelper.createRandomUserDto;
+import static org.vimal.utils.JsonUtility.toJson;
+
+@Slf4j
+public class LoginThrottlingHarness extends BaseTest {
+    private static final double RATE_PER_SECOND = Double.parseDouble(System.getProperty("throttling.ratePerSecond", "20"));
+    private static final int ATTEMPTS = Integer.getInteger("throttling.attempts", 200);
+    private static final int ACCOUNTS = Integer.getInteger("throttling.accounts", 20);
+    private static final boolean EXPECT_BLOCK = Boolean.getBoolean("throttling.expectBlock");
+    private static final Path REPORT_FILE = Path.of(System.getProperty("throttling.report", "target/throttling-report.json"));
+    private static final String WRONG_PASSWORD = "WrongPassword@1";
+    private static final Predicate<Attempt> IS_BLOCKED = attempt -> attempt.getStatusCode() != 401 ||
+            attempt.getMessage() == null ||
+            !attempt.getMessage()
+                    .toLowerCase()
+                    .contains("invalid credentials");
+    private static final List<ThrottlingReport> REPORTS = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void throttling_Invalid_Logins_Against_One_Account() throws ExecutionException, InterruptedException {
+        UserDto user = createTestUser();
+        List<Attempt> attempts = ArrivalRateRunner.runAttempts(
+                index -> login(
+                        user.getUsername(),
+                        WRONG_PASSWORD
+                ),
+                RATE_PER_SECOND,
+                ATTEMPTS
+        );
+        report(ThrottlingReport.of(
+                "single account",
+                1,
+                RATE_PER_SECOND,
+                attempts,
+                IS_BLOCKED,
+                validLoginSucceeds(user)
+        ));
+    }
+
+    @Test
+    public void throttling_Invalid_Logins_Across_Many_Accounts() throws ExecutionException, InterruptedException {
+        Set<UserDto> users = new HashSet<>();
+        for (int i = 0; i < ACCOUNTS; i++) {
+            users.add(createRandomUserDto());
+        }
+        createTestUsers(users);
+        List<UserDto> accounts = new ArrayList<>(users);
+        List<Attempt> attempts = ArrivalRateRunner.runAttempts(
+                index -> login(
+                        accounts.get(index % accounts.size()).getUsername(),
+                        WRONG_PASSWORD
+                ),
+                RATE_PER_SECOND,
+                ATTEMPTS
+        );
+        report(ThrottlingReport.of(
+                "many accounts",
+                accounts.size(),
+                RATE_PER_SECOND,
+                attempts,
+                IS_BLOCKED,
+                validLoginSucceeds(accounts.getFirst())
+        ));
+    }
+
+    private static Boolean validLoginSucceeds(UserDto user) throws ExecutionException, InterruptedException {
+        return login(
+                user.getUsername(),
+                user.getPassword()
+        ).statusCode() == 200;
+    }
+
+    private static void report(ThrottlingReport report) {
+        REPORTS.add(report);
+        log.info("Login throttling, {}", report);
+        if (EXPECT_BLOCK) {
+            assertThat(report.getAttemptsBeforeBlock(), lessThan(report.getAttempts()));
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void writeThrottlingReport() throws IOException {
+        if (REPORTS.isEmpty()) {
+            return;
+        }
+        if (REPORT_FILE.getParent() != null) {
+            Files.createDirectories(REPORT_FILE.getParent());
+        }
+        Files.writeString(REPORT_FILE, toJson(REPORTS));
+        log.info("Login throttling report written to '{}'.", REPORT_FILE);
+    }
+}
@@ -0,0 +1,172 @@
+package org.vimal.performance;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+import org.vimal.BaseTest;
+import org.vimal.dtos.UserDto;
+import org.vimal.utils.SmtpSink;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+
+import static org.vimal.api.AuthenticationCalls.getAccessToken;
+import static org.vimal.api.AuthenticationCalls.requestToToggleMfa;
+import static org.vimal.api.UserCalls.*;
+import static org.vimal.constants.Common.EMAIL_MFA;
+import static org.vimal.constants.Common.ENABLE;
+import static org.vimal.helpers.DtosHelper.createRandomUserDto;
+import static org.vimal.utils.JsonUtility.toJson;
+
+@Slf4j
+public class MailBurstHarness extends BaseTest {
+    private static final int REQUESTS = Integer.getInteger("mailBurst.requests", 50);
+    private static final int ACCOUNTS = Integer.getInteger("mailBurst.accounts", 25);
+    private static final double RATE_PER_SECOND = Double.parseDouble(System.getProperty("mailBurst.ratePerSecond", "50"));
+    private static final long SETTLE_MILLIS = Long.getLong("mailBurst.settleMillis", 15_000);
+    private static final String SINK_BIND_ADDRESS = System.getProperty("smtp.sink.bind", "127.0.0.1");
+    private static final int SINK_PORT = Integer.getInteger("smtp.sink.port", 2525);
+    private static final Path REPORT_FILE = Path.of(System.getProperty("mailBurst.report", "target/mail-burst-report.json"));
+    private static final List<MailBurstReport> REPORTS = new CopyOnWriteArrayList<>();
+    private SmtpSink smtpSink;
+
+    @FunctionalInterface
+    private interface AccountOperation {
+        Response execute(UserDto user,
+                         String accessToken,
+                         Set<String> recipients) throws Exception;
+    }
+
+    @BeforeClass
+    public void startSmtpSink() throws IOException {
+        smtpSink = SmtpSink.start(SINK_BIND_ADDRESS, SINK_PORT);
+    }
+
+    @Test
+    public void burst_Forgot_Password() throws Exception {
+        burst(
+                "POST /user/forgot/password",
+                true,
+                false,
+                (user, accessToken, recipients) -> forgotPassword(user.getUsername())
+        );
+    }
+
+    @Test
+    public void burst_Resend_Email_Verification_Link() throws Exception {
+        burst(
+                "POST /user/resend/emailVerification/link",
+                false,
+                false,
+                (user, accessToken, recipients) -> resendEmailVerificationLink(user.getUsername())
+        );
+    }
+
+    @Test
+    public void burst_Email_Change_Request() throws Exception {
+        burst(
+                "POST /user/email/change/request",
+                true,
+                true,
+                (user, accessToken, recipients) -> {
+                    String newEmail = createRandomUserDto().getEmail();
+                    recipients.add(newEmail.toLowerCase(Locale.ROOT));
+                    return emailChangeRequest(accessToken, newEmail);
+                }
+        );
+    }
+
+    @Test
+    public void burst_Request_To_Toggle_Email_Mfa() throws Exception {
+        burst(
+                "POST /auth/mfa/requestTo/toggle",
+                true,
+                true,
+                (user, accessToken, recipients) -> requestToToggleMfa(accessToken, EMAIL_MFA, ENABLE)
+        );
+    }
+
+    private void burst(String endpoint,
+                       boolean emailVerified,
+                       boolean needsAccessToken,
+                       AccountOperation operation) throws Exception {
+        run(endpoint, "one account", 1, emailVerified, needsAccessToken, operation);
+        run(endpoint, "many accounts", ACCOUNTS, emailVerified, needsAccessToken, operation);
+    }
+
+    private void run(String endpoint,
+                     String scenario,
+                     int accountCount,
+                     boolean emailVerified,
+                     boolean needsAccessToken,
+                     AccountOperation operation) throws ExecutionException, InterruptedException {
+        Set<UserDto> users = new HashSet<>();
+        UserDto user;
+        for (int i = 0; i < accountCount; i++) {
+            user = createRandomUserDto();
+            user.setEmailVerified(emailVerified);
+            users.add(user);
+        }
+        createTestUsers(users);
+        List<UserDto> accounts = new ArrayList<>(users);
+        List<String> accessTokens = new ArrayList<>();
+        Set<String> recipients = ConcurrentHashMap.newKeySet();
+        for (UserDto account : accounts) {
+            recipients.add(account.getEmail()
+                    .toLowerCase(Locale.ROOT));
+            accessTokens.add(needsAccessToken ? getAccessToken(account.getUsername(), account.getPassword()) : null);
+        }
+        long startedAtMillis = System.currentTimeMillis();
+        List<Attempt> attempts = ArrivalRateRunner.runAttempts(
+                index -> operation.execute(
+                        accounts.get(index % accounts.size()),
+                        accessTokens.get(index % accounts.size()),
+                        recipients
+                ),
+                RATE_PER_SECOND,
+                REQUESTS
+        );
+        long accepted = attempts.stream()
+                .filter(attempt -> attempt.getStatusCode() >= 200 && attempt.getStatusCode() < 300)
+                .count();
+        long delivered = awaitDeliveries(recipients, startedAtMillis, accepted);
+        MailBurstReport report = MailBurstReport.of(endpoint, scenario, accounts.size(), attempts, delivered);
+        REPORTS.add(report);
+        log.info("Mail burst, {}", report);
+    }
+
+    private long awaitDeliveries(Set<String> recipients,
+                                 long sinceMillis,
+                                 long expected) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + SETTLE_MILLIS;
+        long delivered = smtpSink.countAddressedToAnyOf(recipients, sinceMillis);
+        while (delivered < expected &&
+                System.currentTimeMillis() < deadline) {
+            Thread.sleep(500);
+            delivered = smtpSink.countAddressedToAnyOf(recipients, sinceMillis);
+        }
+        return delivered;
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopSmtpSinkAndWriteReport() throws IOException {
+        if (smtpSink != null) {
+            smtpSink.close();
+        }
+        if (REPORTS.isEmpty()) {
+            return;
+        }
+        if (REPORT_FILE.getParent() != null) {
+            Files.createDirectories(REPORT_FILE.getParent());
+        }
+        Files.writeString(REPORT_FILE, toJson(REPORTS));
+        log.info("Mail burst report written to '{}'.", REPORT_FILE);
+    }
+}
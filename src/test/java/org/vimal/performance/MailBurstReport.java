@@ -0,0 +1,73 @@
+package org.vimal.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Getter
+@AllArgsConstructor
+public class MailBurstReport {
+    private final String endpoint;
+    private final String scenario;
+    private final int accounts;
+    private final int requests;
+    private final int accepted;
+    private final int rejected;
+    private final int requestsBeforeFirstRejection;
+    private final double acceptedPerSecond;
+    private final long mailsDelivered;
+    private final Map<Integer, Integer> statusCodes;
+
+    public static MailBurstReport of(String endpoint,
+                                     String scenario,
+                                     int accounts,
+                                     List<Attempt> attempts,
+                                     long mailsDelivered) {
+        int accepted = 0;
+        int firstRejection = attempts.size();
+        long lastCompletionNanos = 0;
+        Map<Integer, Integer> statusCodes = new TreeMap<>();
+        for (Attempt attempt : attempts) {
+            statusCodes.merge(attempt.getStatusCode(), 1, Integer::sum);
+            if (attempt.getStatusCode() >= 200 &&
+                    attempt.getStatusCode() < 300) {
+                accepted++;
+                lastCompletionNanos = Math.max(lastCompletionNanos, attempt.getSentAfterNanos() + attempt.getLatencyNanos());
+            } else {
+                firstRejection = Math.min(firstRejection, attempt.getIndex());
+            }
+        }
+        return new MailBurstReport(
+                endpoint,
+                scenario,
+                accounts,
+                attempts.size(),
+                accepted,
+                attempts.size() - accepted,
+                firstRejection,
+                lastCompletionNanos == 0 ? 0 : accepted / (lastCompletionNanos / 1_000_000_000.0),
+                mailsDelivered,
+                statusCodes
+        );
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s [%s]: accounts=%d requests=%d accepted=%d rejected=%d requestsBeforeFirstRejection=%d accepted/s=%.1f mailsDelivered=%d statusCodes=%s",
+                endpoint,
+                scenario,
+                accounts,
+                requests,
+                accepted,
+                rejected,
+                requestsBeforeFirstRejection,
+                acceptedPerSecond,
+                mailsDelivered,
+                statusCodes
+        );
+    }
+}
@@ -0,0 +1,112 @@
+package org.vimal.performance;
+
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.vimal.BaseTest;
+import org.vimal.dtos.UserDto;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+
+import static org.vimal.api.AdminCalls.createUsers;
+import static org.vimal.api.AuthenticationCalls.getAccessToken;
+import static org.vimal.api.AuthenticationCalls.login;
+import static org.vimal.api.UserCalls.getSelfDetails;
+import static org.vimal.constants.Common.MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME;
+import static org.vimal.enums.Roles.ROLE_SUPER_ADMIN;
+import static org.vimal.helpers.DtosHelper.createRandomUserDto;
+import static org.vimal.utils.JsonUtility.toJson;
+
+@Slf4j
+public class MaxSustainableThroughputHarness extends BaseTest {
+    private static final Map<String, CapacityResult> RESULTS = new ConcurrentHashMap<>();
+    private static final Path REPORT_FILE = Path.of(System.getProperty("capacity.report", "target/capacity-report.json"));
+
+    private static ThroughputFinder finder() {
+        return ThroughputFinder.builder()
+                .latencyPercentile(Double.parseDouble(System.getProperty("capacity.percentile", "99")))
+                .latencySloMillis(Double.parseDouble(System.getProperty("capacity.sloMillis", "500")))
+                .maxErrorRate(Double.parseDouble(System.getProperty("capacity.maxErrorRate", "0.01")))
+                .initialRatePerSecond(Double.parseDouble(System.getProperty("capacity.initialRate", "1")))
+                .maxRatePerSecond(Double.parseDouble(System.getProperty("capacity.maxRate", "1000")))
+                .stepDuration(Duration.ofSeconds(Long.getLong("capacity.stepSeconds", 10)))
+                .build();
+    }
+
+    private static void record(CapacityResult result) {
+        RESULTS.put(result.getOperation(), result);
+    }
+
+    @Test
+    public void capacity_Login() throws ExecutionException, InterruptedException {
+        UserDto user = createTestUser();
+        record(finder().find(
+                "POST /auth/login",
+                () -> login(
+                        user.getUsername(),
+                        user.getPassword()
+                ).statusCode() == 200
+        ));
+    }
+
+    @Test
+    public void capacity_Get_Self_Details() throws ExecutionException, InterruptedException {
+        UserDto user = createTestUser();
+        String accessToken = getAccessToken(
+                user.getUsername(),
+                user.getPassword()
+        );
+        record(finder().find(
+                "GET /user/getSelfDetails",
+                () -> getSelfDetails(accessToken).statusCode() == 200
+        ));
+    }
+
+    @Test
+    public void capacity_Create_Users_Batch_Of_34() throws ExecutionException, InterruptedException {
+        UserDto creator = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
+        String accessToken = getAccessToken(
+                creator.getUsername(),
+                creator.getPassword()
+        );
+        record(finder().find(
+                "POST /admin/create/users (" + MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME + " users)",
+                () -> {
+                    Set<UserDto> batch = new HashSet<>();
+                    for (int i = 0; i < MAX_BATCH_SIZE_OF_USER_CREATION_AT_A_TIME; i++) {
+                        batch.add(createRandomUserDto());
+                    }
+                    TEST_USERS.addAll(batch);
+                    return createUsers(
+                            accessToken,
+                            batch,
+                            null
+                    ).statusCode() == 200;
+                }
+        ));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void writeCapacityReport() throws IOException {
+        if (RESULTS.isEmpty()) {
+            return;
+        }
+        Map<String, Double> summary = new TreeMap<>();
+        RESULTS.forEach((operation, result) -> summary.put(operation, result.getMaxSustainableRatePerSecond()));
+        log.info("Max sustainable throughput (req/s): {}", summary);
+        if (REPORT_FILE.getParent() != null) {
+            Files.createDirectories(REPORT_FILE.getParent());
+        }
+        Files.writeString(REPORT_FILE, toJson(new TreeMap<>(RESULTS)));
+        log.info("Capacity report written to '{}'.", REPORT_FILE);
+    }
+}
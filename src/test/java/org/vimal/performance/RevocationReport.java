@@ -0,0 +1,38 @@
+package org.vimal.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class RevocationReport {
+    private final String mechanism;
+    private final int tokens;
+    private final int pollersPerToken;
+    private final long pollerObservations;
+    private final long pollersTimedOut;
+    private final double p50TimeTo401Millis;
+    private final double p95TimeTo401Millis;
+    private final double p99TimeTo401Millis;
+    private final double maxTimeTo401Millis;
+    private final long successesAfterRevocation;
+    private final double maxStaleWindowMillis;
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s: tokens=%d pollers/token=%d observations=%d timedOut=%d timeTo401 p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms successesAfterRevocation=%d maxStaleWindow=%.1fms",
+                mechanism,
+                tokens,
+                pollersPerToken,
+                pollerObservations,
+                pollersTimedOut,
+                p50TimeTo401Millis,
+                p95TimeTo401Millis,
+                p99TimeTo401Millis,
+                maxTimeTo401Millis,
+                successesAfterRevocation,
+                maxStaleWindowMillis
+        );
+    }
+}
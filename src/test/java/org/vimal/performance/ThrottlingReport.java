@@ -0,0 +1,95 @@
+package org.vimal.performance;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Predicate;
+
+@Getter
+@AllArgsConstructor
+public class ThrottlingReport {
+    private final String scenario;
+    private final int accounts;
+    private final double ratePerSecond;
+    private final int attempts;
+    private final int attemptsBeforeBlock;
+    private final double timeToBlockMillis;
+    private final int blockedAttempts;
+    private final double meanLatencyBeforeBlockMillis;
+    private final double addedLatencyPerAttemptMillis;
+    private final Map<String, Integer> outcomes;
+    private final Boolean validLoginAfterwardsSucceeded;
+
+    public static ThrottlingReport of(String scenario,
+                                      int accounts,
+                                      double ratePerSecond,
+                                      List<Attempt> attempts,
+                                      Predicate<Attempt> isBlocked,
+                                      Boolean validLoginAfterwardsSucceeded) {
+        Attempt firstBlocked = null;
+        int blocked = 0;
+        Map<String, Integer> outcomes = new TreeMap<>();
+        for (Attempt attempt : attempts) {
+            outcomes.merge(attempt.getStatusCode() + " " + attempt.getMessage(), 1, Integer::sum);
+            if (isBlocked.test(attempt)) {
+                blocked++;
+                if (firstBlocked == null ||
+                        attempt.getSentAfterNanos() + attempt.getLatencyNanos() <
+                                firstBlocked.getSentAfterNanos() + firstBlocked.getLatencyNanos()) {
+                    firstBlocked = attempt;
+                }
+            }
+        }
+        int attemptsBeforeBlock = firstBlocked == null ? attempts.size() : firstBlocked.getIndex();
+        double sumX = 0;
+        double sumY = 0;
+        double sumXY = 0;
+        double sumXX = 0;
+        int n = 0;
+        for (Attempt attempt : attempts) {
+            if (isBlocked.test(attempt)) {
+                continue;
+            }
+            sumX += attempt.getIndex();
+            sumY += attempt.getLatencyMillis();
+            sumXY += attempt.getIndex() * attempt.getLatencyMillis();
+            sumXX += (double) attempt.getIndex() * attempt.getIndex();
+            n++;
+        }
+        double denominator = n * sumXX - sumX * sumX;
+        return new ThrottlingReport(
+                scenario,
+                accounts,
+                ratePerSecond,
+                attempts.size(),
+                attemptsBeforeBlock,
+                firstBlocked == null ? -1 : (firstBlocked.getSentAfterNanos() + firstBlocked.getLatencyNanos()) / 1_000_000.0,
+                blocked,
+                n == 0 ? 0 : sumY / n,
+                (n < 2 || denominator == 0) ? 0 : (n * sumXY - sumX * sumY) / denominator,
+                outcomes,
+                validLoginAfterwardsSucceeded
+        );
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+                "%s: accounts=%d rate=%.1f/s attempts=%d attemptsBeforeBlock=%d timeToBlock=%.0fms blocked=%d meanLatency=%.1fms addedLatencyPerAttempt=%.3fms validLoginAfterwards=%s outcomes=%s",
+                scenario,
+                accounts,
+                ratePerSecond,
+                attempts,
+                attemptsBeforeBlock,
+                timeToBlockMillis,
+                blockedAttempts,
+                meanLatencyBeforeBlockMillis,
+                addedLatencyPerAttemptMillis,
+                validLoginAfterwardsSucceeded,
+                outcomes
+        );
+    }
+}
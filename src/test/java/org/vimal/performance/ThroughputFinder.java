@@ -0,0 +1,100 @@
+package org.vimal.performance;
+
+import lombok.Builder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Builder
+public class ThroughputFinder {
+    @Builder.Default
+    private final double latencyPercentile = 99;
+    @Builder.Default
+    private final double latencySloMillis = 500;
+    @Builder.Default
+    private final double maxErrorRate = 0.01;
+    @Builder.Default
+    private final double initialRatePerSecond = 1;
+    @Builder.Default
+    private final double maxRatePerSecond = 1_000;
+    @Builder.Default
+    private final double tolerance = 0.05;
+    @Builder.Default
+    private final Duration stepDuration = Duration.ofSeconds(10);
+    @Builder.Default
+    private final Duration coolDown = Duration.ofSeconds(2);
+
+    public CapacityResult find(String operationName,
+                               LoadOperation operation) throws InterruptedException {
+        List<LoadStepResult> steps = new ArrayList<>();
+        double low = 0;
+        double high = -1;
+        double rate = initialRatePerSecond;
+        while (rate <= maxRatePerSecond) {
+            if (runStep(operationName, operation, rate, steps)) {
+                low = rate;
+                rate *= 2;
+            } else {
+                high = rate;
+                break;
+            }
+        }
+        if (high < 0) {
+            if (low < maxRatePerSecond &&
+                    runStep(operationName, operation, maxRatePerSecond, steps)) {
+                low = maxRatePerSecond;
+            } else if (low < maxRatePerSecond) {
+                high = maxRatePerSecond;
+            }
+        }
+        if (high > 0) {
+            double mid;
+            while (high - low > Math.max(1, low * tolerance)) {
+                mid = (low + high) / 2;
+                if (runStep(operationName, operation, mid, steps)) {
+                    low = mid;
+                } else {
+                    high = mid;
+                }
+            }
+        }
+        log.info(
+                "Max sustainable rate for '{}': {} req/s (p{} <= {} ms, error rate <= {}).",
+                operationName,
+                String.format("%.1f", low),
+                latencyPercentile,
+                latencySloMillis,
+                maxErrorRate
+        );
+        return new CapacityResult(
+                operationName,
+                low,
+                high < 0,
+                latencyPercentile,
+                latencySloMillis,
+                maxErrorRate,
+                steps
+        );
+    }
+
+    private boolean runStep(String operationName,
+                            LoadOperation operation,
+                            double rate,
+                            List<LoadStepResult> steps) throws InterruptedException {
+        LoadStepResult result = ArrivalRateRunner.run(operation, rate, stepDuration);
+        steps.add(result);
+        boolean meetsSlo = result.getLatencyMillisAtPercentile(latencyPercentile) <= latencySloMillis &&
+                result.getErrorRate() <= maxErrorRate;
+        log.info(
+                "'{}' {} -> {}",
+                operationName,
+                result,
+                meetsSlo ? "PASS" : "FAIL"
+        );
+        Thread.sleep(coolDown.toMillis());
+        return meetsSlo;
+    }
+}
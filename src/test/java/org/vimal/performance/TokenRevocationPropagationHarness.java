@@ -0,0 +1,165 @@
+package org.vimal.performance;
+
+import io.restassured.response.Response;
+import lombok.extern.slf4j.Slf4j;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.Test;
+import org.vimal.BaseTest;
+import org.vimal.dtos.UserDto;
+import org.vimal.metrics.LatencyHistogram;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.vimal.api.AuthenticationCalls.*;
+import static org.vimal.api.UserCalls.getSelfDetails;
+import static org.vimal.helpers.DtosHelper.createRandomUserDto;
+import static org.vimal.utils.JsonUtility.toJson;
+
+@Slf4j
+public class TokenRevocationPropagationHarness extends BaseTest {
+    private static final int TOKENS = Integer.getInteger("revocation.tokens", 20);
+    private static final int POLLERS = Integer.getInteger("revocation.pollers", 8);
+    private static final long POLL_INTERVAL_MILLIS = Long.getLong("revocation.pollIntervalMillis", 5);
+    private static final long WARM_UP_MILLIS = Long.getLong("revocation.warmUpMillis", 200);
+    private static final long TIMEOUT_MILLIS = Long.getLong("revocation.timeoutMillis", 10_000);
+    private static final boolean FAIL_ON_LEAK = Boolean.getBoolean("revocation.failOnLeak");
+    private static final Path REPORT_FILE = Path.of(System.getProperty("revocation.report", "target/revocation-report.json"));
+    private static final List<RevocationReport> REPORTS = new CopyOnWriteArrayList<>();
+
+    @FunctionalInterface
+    private interface Revocation {
+        Response revoke(String accessToken) throws Exception;
+    }
+
+    @Test
+    public void revocation_Propagation_After_Revoke_Access_Token() throws Exception {
+        measure("revokeAccessToken", accessToken -> revokeAccessToken(accessToken));
+    }
+
+    @Test
+    public void revocation_Propagation_After_Logout() throws Exception {
+        measure("logout", accessToken -> logout(accessToken));
+    }
+
+    private void measure(String mechanism,
+                         Revocation revocation) throws Exception {
+        Set<UserDto> users = new HashSet<>();
+        for (int i = 0; i < TOKENS; i++) {
+            users.add(createRandomUserDto());
+        }
+        createTestUsers(users);
+        LatencyHistogram timeTo401 = new LatencyHistogram();
+        LongAdder observations = new LongAdder();
+        LongAdder timedOut = new LongAdder();
+        LongAdder successesAfterRevocation = new LongAdder();
+        AtomicLong maxStaleWindowNanos = new AtomicLong();
+        for (UserDto user : users) {
+            runTrial(
+                    getAccessToken(
+                            user.getUsername(),
+                            user.getPassword()
+                    ),
+                    revocation,
+                    timeTo401,
+                    observations,
+                    timedOut,
+                    successesAfterRevocation,
+                    maxStaleWindowNanos
+            );
+        }
+        RevocationReport report = new RevocationReport(
+                mechanism,
+                users.size(),
+                POLLERS,
+                observations.sum(),
+                timedOut.sum(),
+                timeTo401.getPercentileMillis(50),
+                timeTo401.getPercentileMillis(95),
+                timeTo401.getPercentileMillis(99),
+                timeTo401.getMaxMillis(),
+                successesAfterRevocation.sum(),
+                maxStaleWindowNanos.get() / 1_000_000.0
+        );
+        REPORTS.add(report);
+        log.info("Token revocation propagation, {}", report);
+        if (FAIL_ON_LEAK) {
+            assertThat(report.getSuccessesAfterRevocation(), equalTo(0L));
+        }
+    }
+
+    private static void runTrial(String accessToken,
+                                 Revocation revocation,
+                                 LatencyHistogram timeTo401,
+                                 LongAdder observations,
+                                 LongAdder timedOut,
+                                 LongAdder successesAfterRevocation,
+                                 AtomicLong maxStaleWindowNanos) throws Exception {
+        AtomicLong revokedAtNanos = new AtomicLong();
+        CountDownLatch pollersStarted = new CountDownLatch(POLLERS);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < POLLERS; i++) {
+                executor.execute(() -> {
+                    pollersStarted.countDown();
+                    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(TIMEOUT_MILLIS);
+                    long sentAt;
+                    int status;
+                    long revokedAt;
+                    while (System.nanoTime() < deadline) {
+                        sentAt = System.nanoTime();
+                        try {
+                            status = getSelfDetails(accessToken).statusCode();
+                        } catch (Exception | AssertionError ex) {
+                            status = -1;
+                        }
+                        revokedAt = revokedAtNanos.get();
+                        if (revokedAt != 0 &&
+                                sentAt > revokedAt) {
+                            if (status == 200) {
+                                successesAfterRevocation.increment();
+                                maxStaleWindowNanos.accumulateAndGet(sentAt - revokedAt, Math::max);
+                            } else if (status == 401) {
+                                timeTo401.record(System.nanoTime() - revokedAt);
+                                observations.increment();
+                                return;
+                            }
+                        }
+                        try {
+                            Thread.sleep(POLL_INTERVAL_MILLIS);
+                        } catch (InterruptedException ex) {
+                            return;
+                        }
+                    }
+                    timedOut.increment();
+                });
+            }
+            pollersStarted.await();
+            Thread.sleep(WARM_UP_MILLIS);
+            revocation.revoke(accessToken)
+                    .then()
+                    .statusCode(200);
+            revokedAtNanos.set(System.nanoTime());
+        }
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void writeRevocationReport() throws IOException {
+        if (REPORTS.isEmpty()) {
+            return;
+        }
+        if (REPORT_FILE.getParent() != null) {
+            Files.createDirectories(REPORT_FILE.getParent());
+        }
+        Files.writeString(REPORT_FILE, toJson(REPORTS));
+        log.info("Token revocation report written to '{}'.", REPORT_FILE);
+    }
+}
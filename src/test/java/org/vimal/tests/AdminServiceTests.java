@@ -5,13 +5,14 @@ import org.testng.annotations.Test;
 import org.vimal.BaseTest;
 import org.vimal.dtos.RoleDto;
 import org.vimal.dtos.UserDto;
+import org.vimal.fixtures.PooledFixtures;
 
 import java.util.*;
 import java.util.concurrent.ExecutionException;
 
 import static org.hamcrest.Matchers.*;
 import static org.vimal.api.AdminCalls.*;
-import static org.vimal.api.AuthenticationCalls.getAccessToken;
+import static org.vimal.api.AuthenticationCalls.getCachedAccessToken;
 import static org.vimal.constants.Common.*;
 import static org.vimal.enums.Permissions.CAN_CREATE_USER;
 import static org.vimal.enums.Roles.*;
@@ -21,6 +22,7 @@ import static org.vimal.helpers.ResponseValidatorHelper.*;
 import static org.vimal.utils.DateTimeUtility.getCurrentFormattedLocalTimeStamp;
 import static org.vimal.utils.RandomStringUtility.generateRandomStringAlphaNumeric;
 
+@PooledFixtures
 public class AdminServiceTests extends BaseTest {
     private static final Set<String> USERS_WITH_THESE_ROLES_CANNOT_CREATE_READ_UPDATE_DELETE_USERS = Set.of(
             ROLE_MANAGE_ROLES.name(),
@@ -75,7 +77,7 @@ public class AdminServiceTests extends BaseTest {
     private void createUsersAndVerifyResponse(UserDto creator,
                                               Set<UserDto> users,
                                               int statusCode) throws ExecutionException, InterruptedException {
-        String accessToken = getAccessToken(
+        String accessToken = getCachedAccessToken(
                 creator.getUsername(),
                 creator.getPassword()
         );
@@ -108,7 +110,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Create_Users_Using_User_With_Role_Super_Admin() throws ExecutionException, InterruptedException {
-        UserDto creator = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
+        UserDto creator = leaseUser(ROLE_SUPER_ADMIN).getUser();
         Set<UserDto> usersThatCanBeCreatedBySuperAdmin = new HashSet<>();
         usersThatCanBeCreatedBySuperAdmin.add(createRandomUserDto());
         usersThatCanBeCreatedBySuperAdmin.add(createRandomUserDto(ROLE_SET_FOR_SUPER_ADMIN_CAN_CREATE_UPDATE_DELETE_USERS));
@@ -124,7 +126,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Create_Users_Using_User_With_Role_Admin() throws ExecutionException, InterruptedException {
-        UserDto creator = createTestUser(Set.of(ROLE_ADMIN.name()));
+        UserDto creator = leaseUser(ROLE_ADMIN).getUser();
         Set<UserDto> usersThatCanBeCreatedByAdmin = new HashSet<>();
         usersThatCanBeCreatedByAdmin.add(createRandomUserDto());
         usersThatCanBeCreatedByAdmin.add(createRandomUserDto(ROLE_SET_FOR_ADMIN_CAN_CREATE_UPDATE_DELETE_USERS));
@@ -140,7 +142,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Create_Users_Using_User_With_Role_Mange_Users() throws ExecutionException, InterruptedException {
-        UserDto creator = createTestUser(Set.of(ROLE_MANAGE_USERS.name()));
+        UserDto creator = leaseUser(ROLE_MANAGE_USERS).getUser();
         Set<UserDto> usersThatCanBeCreatedByManageUsers = new HashSet<>();
         usersThatCanBeCreatedByManageUsers.add(createRandomUserDto());
         usersThatCanBeCreatedByManageUsers.add(createRandomUserDto(ROLE_SET_FOR_ADMIN_CAN_CREATE_UPDATE_DELETE_USERS));
@@ -163,12 +165,10 @@ public class AdminServiceTests extends BaseTest {
         }
         createTestUsers(creators);
         Set<UserDto> testSet = Set.of(createRandomUserDto());
+        Map<String, String> accessTokens = accessTokensOf(creators);
         for (UserDto creator : creators) {
             createUsers(
-                    getAccessToken(
-                            creator.getUsername(),
-                            creator.getPassword()
-                    ),
+                    accessTokens.get(creator.getUsername()),
                     testSet,
                     null
             ).then()
@@ -179,7 +179,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Create_Users_Using_User_With_Role_Super_Admin_Not_Allowed_To_Create_Users() throws ExecutionException, InterruptedException {
-        UserDto creator = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
+        UserDto creator = leaseUser(ROLE_SUPER_ADMIN).getUser();
         Set<UserDto> usersThatCannotBeCreatedBySuperAdmin = new HashSet<>();
         usersThatCannotBeCreatedBySuperAdmin.add(createRandomUserDto(ROLE_SET_FOR_SUPER_ADMIN_CANNOT_CREATE_UPDATE_DELETE_USERS));
         for (String role : ROLE_SET_FOR_SUPER_ADMIN_CANNOT_CREATE_UPDATE_DELETE_USERS) {
@@ -194,7 +194,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Create_Users_Using_User_With_Role_Admin_Not_Allowed_To_Create_Users() throws ExecutionException, InterruptedException {
-        UserDto creator = createTestUser(Set.of(ROLE_ADMIN.name()));
+        UserDto creator = leaseUser(ROLE_ADMIN).getUser();
         Set<UserDto> usersThatCannotBeCreatedByAdmin = new HashSet<>();
         usersThatCannotBeCreatedByAdmin.add(createRandomUserDto(ROLE_SET_FOR_ADMIN_CANNOT_CREATE_UPDATE_DELETE_USERS));
         for (String role : ROLE_SET_FOR_ADMIN_CANNOT_CREATE_UPDATE_DELETE_USERS) {
@@ -209,7 +209,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Create_Users_Using_User_With_Role_Mange_Users_Not_Allowed_To_Create_Users() throws ExecutionException, InterruptedException {
-        UserDto creator = createTestUser(Set.of(ROLE_MANAGE_USERS.name()));
+        UserDto creator = leaseUser(ROLE_MANAGE_USERS).getUser();
         Set<UserDto> usersThatCannotBeCreatedByManageUsers = new HashSet<>();
         usersThatCannotBeCreatedByManageUsers.add(createRandomUserDto(ROLE_SET_FOR_ADMIN_CANNOT_CREATE_UPDATE_DELETE_USERS));
         for (String role : ROLE_SET_FOR_ADMIN_CANNOT_CREATE_UPDATE_DELETE_USERS) {
@@ -224,11 +224,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Create_Users_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto creator = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
-        String accessToken = getAccessToken(
-                creator.getUsername(),
-                creator.getPassword()
-        );
+        String accessToken = leaseUser(ROLE_SUPER_ADMIN).getAccessToken();
         UserDto user = createRandomUserDto();
         Set<UserDto> testSet = Set.of(user);
         for (String invalidUsername : INVALID_USERNAMES) {
@@ -321,7 +317,7 @@ public class AdminServiceTests extends BaseTest {
             }
             i++;
         }
-        String accessToken = getAccessToken(
+        String accessToken = getCachedAccessToken(
                 deleter.getUsername(),
                 deleter.getPassword()
         );
@@ -417,12 +413,10 @@ public class AdminServiceTests extends BaseTest {
             deleters.add(createRandomUserDto(Set.of(role)));
         }
         createTestUsers(deleters);
+        Map<String, String> accessTokens = accessTokensOf(deleters);
         for (UserDto deleter : deleters) {
             deleteUsers(
-                    getAccessToken(
-                            deleter.getUsername(),
-                            deleter.getPassword()
-                    ),
+                    accessTokens.get(deleter.getUsername()),
                     Set.of("someUsername"),
                     ENABLE,
                     null
@@ -488,11 +482,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Delete_Users_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto deleter = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
-        String accessToken = getAccessToken(
-                deleter.getUsername(),
-                deleter.getPassword()
-        );
+        String accessToken = leaseUser(ROLE_SUPER_ADMIN).getAccessToken();
         for (String invalidIdentifier : INVALID_USERNAMES) {
             deleteUsers(
                     accessToken,
@@ -517,7 +507,7 @@ public class AdminServiceTests extends BaseTest {
 
     private void readUsersAndVerifyResponse(UserDto reader,
                                             Set<UserDto> users) throws ExecutionException, InterruptedException {
-        String accessToken = getAccessToken(
+        String accessToken = getCachedAccessToken(
                 reader.getUsername(),
                 reader.getPassword()
         );
@@ -574,12 +564,10 @@ public class AdminServiceTests extends BaseTest {
             readers.add(createRandomUserDto(Set.of(role)));
         }
         createTestUsers(readers);
+        Map<String, String> accessTokens = accessTokensOf(readers);
         for (UserDto reader : readers) {
             readUsers(
-                    getAccessToken(
-                            reader.getUsername(),
-                            reader.getPassword()
-                    ),
+                    accessTokens.get(reader.getUsername()),
                     Set.of("someUsername"),
                     null
             ).then()
@@ -590,11 +578,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Read_Users_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto reader = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
-        String accessToken = getAccessToken(
-                reader.getUsername(),
-                reader.getPassword()
-        );
+        String accessToken = leaseUser(ROLE_SUPER_ADMIN).getAccessToken();
         for (String invalidIdentifier : INVALID_USERNAMES) {
             readUsers(
                     accessToken,
@@ -619,7 +603,7 @@ public class AdminServiceTests extends BaseTest {
                                               Set<UserDto> users,
                                               Set<UserDto> updatedInputs,
                                               int statusCode) throws ExecutionException, InterruptedException {
-        String accessToken = getAccessToken(
+        String accessToken = getCachedAccessToken(
                 updater.getUsername(),
                 updater.getPassword()
         );
@@ -748,12 +732,10 @@ public class AdminServiceTests extends BaseTest {
         }
         createTestUsers(updaters);
         Set<UserDto> testSet = Set.of(createRandomUserDto());
+        Map<String, String> accessTokens = accessTokensOf(updaters);
         for (UserDto updater : updaters) {
             updateUsers(
-                    getAccessToken(
-                            updater.getUsername(),
-                            updater.getPassword()
-                    ),
+                    accessTokens.get(updater.getUsername()),
                     testSet,
                     null
             ).then()
@@ -842,11 +824,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Update_Users_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto updater = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
-        String accessToken = getAccessToken(
-                updater.getUsername(),
-                updater.getPassword()
-        );
+        String accessToken = leaseUser(ROLE_SUPER_ADMIN).getAccessToken();
         UserDto user = createRandomUserDto();
         Set<UserDto> testSet = Set.of(user);
         for (String invalidUsername : INVALID_USERNAMES) {
@@ -948,15 +926,13 @@ public class AdminServiceTests extends BaseTest {
         Set<RoleDto> tempSet;
         RoleDto role;
         Response response;
+        Map<String, String> accessTokens = accessTokensOf(creators);
         for (UserDto creator : creators) {
             role = createRandomRoleDto();
             tempSet = Set.of(role);
             TEST_ROLES.add(role);
             response = createRoles(
-                    getAccessToken(
-                            creator.getUsername(),
-                            creator.getPassword()
-                    ),
+                    accessTokens.get(creator.getUsername()),
                     tempSet,
                     null
             );
@@ -978,12 +954,10 @@ public class AdminServiceTests extends BaseTest {
         }
         createTestUsers(creators);
         Set<RoleDto> testSet = Set.of(createRandomRoleDto());
+        Map<String, String> accessTokens = accessTokensOf(creators);
         for (UserDto creator : creators) {
             createRoles(
-                    getAccessToken(
-                            creator.getUsername(),
-                            creator.getPassword()
-                    ),
+                    accessTokens.get(creator.getUsername()),
                     testSet,
                     null
             ).then()
@@ -994,11 +968,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Create_Roles_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto creator = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
-        String accessToken = getAccessToken(
-                creator.getUsername(),
-                creator.getPassword()
-        );
+        String accessToken = leaseUser(ROLE_SUPER_ADMIN).getAccessToken();
         RoleDto role = createRandomRoleDto();
         Set<RoleDto> testSet = Set.of(role);
         for (String invalidRoleName : INVALID_ROLE_OR_PERMISSION_NAMES) {
@@ -1043,12 +1013,10 @@ public class AdminServiceTests extends BaseTest {
         Set<RoleDto> rolesToBeDeleted = createRandomRoleDtos(deleters.size());
         createTestRoles(rolesToBeDeleted);
         Iterator<RoleDto> iterator = rolesToBeDeleted.iterator();
+        Map<String, String> accessTokens = accessTokensOf(deleters);
         for (UserDto deleter : deleters) {
             deleteRoles(
-                    getAccessToken(
-                            deleter.getUsername(),
-                            deleter.getPassword()
-                    ),
+                    accessTokens.get(deleter.getUsername()),
                     Set.of(iterator.next().getRoleName()),
                     ENABLE,
                     null
@@ -1067,12 +1035,10 @@ public class AdminServiceTests extends BaseTest {
         }
         createTestUsers(deleters);
         Set<String> testSet = Set.of("someRoleName");
+        Map<String, String> accessTokens = accessTokensOf(deleters);
         for (UserDto deleter : deleters) {
             deleteRoles(
-                    getAccessToken(
-                            deleter.getUsername(),
-                            deleter.getPassword()
-                    ),
+                    accessTokens.get(deleter.getUsername()),
                     testSet,
                     ENABLE,
                     null
@@ -1084,11 +1050,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Delete_Roles_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto deleter = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
-        String accessToken = getAccessToken(
-                deleter.getUsername(),
-                deleter.getPassword()
-        );
+        String accessToken = leaseUser(ROLE_SUPER_ADMIN).getAccessToken();
         for (String invalidRoleName : INVALID_ROLE_OR_PERMISSION_NAMES) {
             deleteRoles(
                     accessToken,
@@ -1121,12 +1083,10 @@ public class AdminServiceTests extends BaseTest {
         RoleDto role = createTestRole();
         Set<String> roleNames = Set.of(role.getRoleName());
         Set<RoleDto> tempSet = Set.of(role);
+        Map<String, String> accessTokens = accessTokensOf(readers);
         for (UserDto reader : readers) {
             response = readRoles(
-                    getAccessToken(
-                            reader.getUsername(),
-                            reader.getPassword()
-                    ),
+                    accessTokens.get(reader.getUsername()),
                     roleNames,
                     null
             );
@@ -1148,12 +1108,10 @@ public class AdminServiceTests extends BaseTest {
         }
         createTestUsers(readers);
         Set<String> testSet = Set.of("someRoleName");
+        Map<String, String> accessTokens = accessTokensOf(readers);
         for (UserDto reader : readers) {
             readRoles(
-                    getAccessToken(
-                            reader.getUsername(),
-                            reader.getPassword()
-                    ),
+                    accessTokens.get(reader.getUsername()),
                     testSet,
                     null
             ).then()
@@ -1164,11 +1122,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Read_Roles_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto reader = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
-        String accessToken = getAccessToken(
-                reader.getUsername(),
-                reader.getPassword()
-        );
+        String accessToken = leaseUser(ROLE_SUPER_ADMIN).getAccessToken();
         for (String invalidRoleName : INVALID_ROLE_OR_PERMISSION_NAMES) {
             readRoles(
                     accessToken,
@@ -1205,14 +1159,12 @@ public class AdminServiceTests extends BaseTest {
         Response response;
         RoleDto updatedInput;
         Set<RoleDto> tempSet;
+        Map<String, String> accessTokens = accessTokensOf(updaters);
         for (UserDto updater : updaters) {
             updatedInput = iterator.next();
             tempSet = Set.of(updatedInput);
             response = updateRoles(
-                    getAccessToken(
-                            updater.getUsername(),
-                            updater.getPassword()
-                    ),
+                    accessTokens.get(updater.getUsername()),
                     tempSet,
                     null
             );
@@ -1235,12 +1187,10 @@ public class AdminServiceTests extends BaseTest {
         }
         createTestUsers(updaters);
         Set<RoleDto> updatedInputs = Set.of(createRandomRoleDto());
+        Map<String, String> accessTokens = accessTokensOf(updaters);
         for (UserDto updater : updaters) {
             updateRoles(
-                    getAccessToken(
-                            updater.getUsername(),
-                            updater.getPassword()
-                    ),
+                    accessTokens.get(updater.getUsername()),
                     updatedInputs,
                     null
             ).then()
@@ -1251,11 +1201,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Update_Roles_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto updater = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
-        String accessToken = getAccessToken(
-                updater.getUsername(),
-                updater.getPassword()
-        );
+        String accessToken = leaseUser(ROLE_SUPER_ADMIN).getAccessToken();
         RoleDto role = new RoleDto();
         Set<RoleDto> testSet = Set.of(role);
         for (String invalidRoleName : INVALID_ROLE_OR_PERMISSION_NAMES) {
@@ -1289,12 +1235,10 @@ public class AdminServiceTests extends BaseTest {
         }
         createTestUsers(readers);
         Set<String> permissionNames = Set.of(CAN_CREATE_USER.name());
+        Map<String, String> accessTokens = accessTokensOf(readers);
         for (UserDto reader : readers) {
             readPermissions(
-                    getAccessToken(
-                            reader.getUsername(),
-                            reader.getPassword()
-                    ),
+                    accessTokens.get(reader.getUsername()),
                     permissionNames,
                     null
             ).then()
@@ -1313,12 +1257,10 @@ public class AdminServiceTests extends BaseTest {
         }
         createTestUsers(readers);
         Set<String> testSet = Set.of(CAN_CREATE_USER.name());
+        Map<String, String> accessTokens = accessTokensOf(readers);
         for (UserDto reader : readers) {
             readPermissions(
-                    getAccessToken(
-                            reader.getUsername(),
-                            reader.getPassword()
-                    ),
+                    accessTokens.get(reader.getUsername()),
                     testSet,
                     null
             ).then()
@@ -1329,11 +1271,7 @@ public class AdminServiceTests extends BaseTest {
 
     @Test
     public void test_Read_Permissions_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto reader = createTestUser(Set.of(ROLE_SUPER_ADMIN.name()));
-        String accessToken = getAccessToken(
-                reader.getUsername(),
-                reader.getPassword()
-        );
+        String accessToken = leaseUser(ROLE_SUPER_ADMIN).getAccessToken();
         for (String invalidPermissionName : INVALID_ROLE_OR_PERMISSION_NAMES) {
             readPermissions(
                     accessToken,
@@ -6,6 +6,7 @@ import org.testng.ITestContext;
 import org.testng.annotations.Test;
 import org.vimal.BaseTest;
 import org.vimal.dtos.UserDto;
+import org.vimal.fixtures.LazyUser;
 
 import java.io.IOException;
 import java.security.InvalidKeyException;
@@ -26,7 +27,7 @@ import static org.vimal.utils.TotpUtility.generateTotp;
 public class AuthenticationServiceTests extends BaseTest {
     @Test
     public void test_Login_Success() throws ExecutionException, InterruptedException {
-        UserDto user = createTestUser();
+        LazyUser user = lazyTestUser();
         Response response = login(
                 user.getUsername(),
                 user.getPassword()
@@ -40,7 +41,7 @@ public class AuthenticationServiceTests extends BaseTest {
         validateResponseOfGetSelfDetails(
                 getSelfDetails(response.jsonPath()
                         .getString("access_token")),
-                user
+                user.getUser()
         );
     }
 
@@ -140,7 +141,7 @@ public class AuthenticationServiceTests extends BaseTest {
 
     @Test
     public void test_Refresh_Access_Token_Success() throws ExecutionException, InterruptedException {
-        UserDto user = createTestUser();
+        LazyUser user = lazyTestUser();
         Response response = refreshAccessToken(
                 getRefreshToken(
                         user.getUsername(),
@@ -155,7 +156,7 @@ public class AuthenticationServiceTests extends BaseTest {
         validateResponseOfGetSelfDetails(
                 getSelfDetails(response.jsonPath()
                         .getString("access_token")),
-                user
+                user.getUser()
         );
     }
 
@@ -188,7 +189,7 @@ public class AuthenticationServiceTests extends BaseTest {
 
     @Test
     public void test_Revoke_Refresh_Token_Success() throws ExecutionException, InterruptedException {
-        UserDto user = createTestUser();
+        LazyUser user = lazyTestUser();
         String refreshToken = getRefreshToken(
                 user.getUsername(),
                 user.getPassword()
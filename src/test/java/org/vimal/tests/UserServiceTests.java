@@ -7,6 +7,8 @@ import org.testng.ITestContext;
 import org.testng.annotations.Test;
 import org.vimal.BaseTest;
 import org.vimal.dtos.UserDto;
+import org.vimal.fixtures.LeasedUser;
+import org.vimal.fixtures.PooledFixtures;
 
 import java.io.IOException;
 import java.security.InvalidKeyException;
@@ -29,6 +31,7 @@ import static org.vimal.utils.MailReaderUtility.getToken;
 import static org.vimal.utils.QrUtility.extractSecretFromByteArrayOfQrCode;
 import static org.vimal.utils.TotpUtility.generateTotp;
 
+@PooledFixtures
 public class UserServiceTests extends BaseTest {
     @Test
     public void test_Registration_Success() throws ExecutionException, InterruptedException {
@@ -48,13 +51,10 @@ public class UserServiceTests extends BaseTest {
 
     @Test
     public void test_Get_Self_Details_Success() throws ExecutionException, InterruptedException {
-        UserDto user = createTestUser();
+        LeasedUser leasedUser = leaseUser();
         validateResponseOfGetSelfDetails(
-                getSelfDetails(getAccessToken(
-                        user.getUsername(),
-                        user.getPassword()
-                )),
-                user
+                getSelfDetails(leasedUser.getAccessToken()),
+                leasedUser.getUser()
         );
     }
 
@@ -570,11 +570,7 @@ public class UserServiceTests extends BaseTest {
 
     @Test
     public void test_Update_Details_Failure_Invalid_Input() throws ExecutionException, InterruptedException {
-        UserDto user = createTestUser();
-        String accessToken = getAccessToken(
-                user.getUsername(),
-                user.getPassword()
-        );
+        String accessToken = leaseUser().getAccessToken();
         Map<String, String> body = new HashMap<>();
         for (String invalidUsername : INVALID_USERNAMES) {
             body.put("username", invalidUsername);
@@ -0,0 +1,20 @@
+package org.vimal.tracing;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class ClientSpan {
+    private final String correlationId;
+    private final String test;
+    private final int step;
+    private final String thread;
+    private final String method;
+    private final String endpoint;
+    private final int status;
+    private final long queuedAtEpochMillis;
+    private final long sentAfterMicros;
+    private final long firstByteAfterMicros;
+    private final long completeAfterMicros;
+}
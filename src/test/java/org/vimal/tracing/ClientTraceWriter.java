@@ -0,0 +1,103 @@
+package org.vimal.tracing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.nio.file.StandardOpenOption.*;
+
+@Slf4j
+public final class ClientTraceWriter {
+    private ClientTraceWriter() {
+    }
+
+    private static final String TRACE_FILE = System.getProperty("trace.file");
+    private static final int QUEUE_CAPACITY = 65_536;
+    private static final BlockingQueue<ClientSpan> QUEUE = new ArrayBlockingQueue<>(QUEUE_CAPACITY);
+    private static final AtomicLong DROPPED = new AtomicLong();
+    private static final ObjectWriter SPAN_WRITER = new ObjectMapper().writerFor(ClientSpan.class);
+    private static final Thread WRITER_THREAD = startWriterThread();
+
+    public static boolean isEnabled() {
+        return WRITER_THREAD != null;
+    }
+
+    static void write(ClientSpan span) {
+        if (!QUEUE.offer(span)) {
+            DROPPED.incrementAndGet();
+        }
+    }
+
+    private static Thread startWriterThread() {
+        if (TRACE_FILE == null ||
+                TRACE_FILE.isBlank()) {
+            return null;
+        }
+        Path path = Path.of(TRACE_FILE);
+        BufferedWriter writer;
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8, CREATE, WRITE, APPEND);
+        } catch (IOException ex) {
+            log.warn("Client trace disabled, cannot open '{}'.", path, ex);
+            return null;
+        }
+        log.info("Writing client trace to '{}'.", path);
+        Thread thread = new Thread(() -> drain(writer), "client-trace-writer");
+        thread.setDaemon(true);
+        thread.start();
+        Runtime.getRuntime()
+                .addShutdownHook(new Thread(() -> {
+                    thread.interrupt();
+                    try {
+                        thread.join(5_000);
+                    } catch (InterruptedException ignored) {
+                    }
+                }, "client-trace-flush"));
+        return thread;
+    }
+
+    private static void drain(BufferedWriter writer) {
+        ClientSpan span;
+        try (writer) {
+            while (true) {
+                try {
+                    span = QUEUE.poll(200, TimeUnit.MILLISECONDS);
+                } catch (InterruptedException ex) {
+                    break;
+                }
+                if (span == null) {
+                    writer.flush();
+                    continue;
+                }
+                writeLine(writer, span);
+            }
+            while ((span = QUEUE.poll()) != null) {
+                writeLine(writer, span);
+            }
+            if (DROPPED.get() > 0) {
+                log.warn("Client trace dropped {} spans because the queue was full.", DROPPED.get());
+            }
+        } catch (IOException ex) {
+            log.warn("Client trace writer stopped.", ex);
+        }
+    }
+
+    private static void writeLine(BufferedWriter writer,
+                                  ClientSpan span) throws IOException {
+        writer.write(SPAN_WRITER.writeValueAsString(span));
+        writer.newLine();
+    }
+}
@@ -0,0 +1,73 @@
+package org.vimal.tracing;
+
+import io.restassured.response.Response;
+
+public final class RequestTrace {
+    private static final ThreadLocal<RequestTrace> ACTIVE = new ThreadLocal<>();
+    private final TraceContext context;
+    private final String method;
+    private final String endpoint;
+    private long sentAtNanos;
+    private long firstByteAtNanos;
+
+    private RequestTrace(TraceContext context,
+                         String method,
+                         String endpoint) {
+        this.context = context;
+        this.method = method;
+        this.endpoint = endpoint;
+    }
+
+    public static RequestTrace begin(String method,
+                                     String endpoint) {
+        return new RequestTrace(
+                TraceContext.currentOrCapture(),
+                method,
+                endpoint
+        );
+    }
+
+    public String getCorrelationId() {
+        return context.getCorrelationId();
+    }
+
+    public void sent() {
+        ACTIVE.set(this);
+        sentAtNanos = System.nanoTime();
+    }
+
+    public static void responseHeadersReceived() {
+        RequestTrace active = ACTIVE.get();
+        if (active != null &&
+                active.firstByteAtNanos == 0) {
+            active.firstByteAtNanos = System.nanoTime();
+        }
+    }
+
+    public void complete(Response response) {
+        ACTIVE.remove();
+        if (!ClientTraceWriter.isEnabled()) {
+            return;
+        }
+        int status = -1;
+        if (response != null) {
+            status = response.statusCode();
+            response.asByteArray();
+        }
+        long completeAtNanos = System.nanoTime();
+        long queuedAtNanos = context.getQueuedAtNanos();
+        ClientTraceWriter.write(new ClientSpan(
+                context.getCorrelationId(),
+                context.getTestName(),
+                context.getStep(),
+                Thread.currentThread().getName(),
+                method,
+                endpoint,
+                status,
+                context.getQueuedAtEpochMillis(),
+                (sentAtNanos - queuedAtNanos) / 1_000,
+                firstByteAtNanos == 0 ? -1 : (firstByteAtNanos - queuedAtNanos) / 1_000,
+                (completeAtNanos - queuedAtNanos) / 1_000
+        ));
+    }
+}
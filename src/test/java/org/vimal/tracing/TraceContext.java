@@ -0,0 +1,70 @@
+package org.vimal.tracing;
+
+import lombok.Getter;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+@Getter
+public final class TraceContext {
+    private static final String STEP_ATTRIBUTE = "correlation.step";
+    private static final String RUN_ID = Long.toString(ThreadLocalRandom.current().nextLong() & Long.MAX_VALUE, 36);
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final ThreadLocal<TraceContext> CURRENT = new ThreadLocal<>();
+    private final String testName;
+    private final int step;
+    private final String correlationId;
+    private final long queuedAtEpochMillis;
+    private final long queuedAtNanos;
+
+    private TraceContext(String testName,
+                         int step) {
+        this.testName = testName;
+        this.step = step;
+        this.correlationId = testName + "#" + step + "." + RUN_ID + "-" + Long.toString(SEQUENCE.incrementAndGet(), 36);
+        this.queuedAtEpochMillis = System.currentTimeMillis();
+        this.queuedAtNanos = System.nanoTime();
+    }
+
+    public static TraceContext capture() {
+        ITestResult result = Reporter.getCurrentTestResult();
+        if (result == null) {
+            return new TraceContext(Thread.currentThread().getName(), 0);
+        }
+        AtomicInteger steps;
+        synchronized (result) {
+            steps = (AtomicInteger) result.getAttribute(STEP_ATTRIBUTE);
+            if (steps == null) {
+                steps = new AtomicInteger();
+                result.setAttribute(STEP_ATTRIBUTE, steps);
+            }
+        }
+        return new TraceContext(
+                result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName(),
+                steps.incrementAndGet()
+        );
+    }
+
+    public static TraceContext currentOrCapture() {
+        TraceContext context = CURRENT.get();
+        return context != null ? context : capture();
+    }
+
+    public <T> T callWithin(Supplier<T> call) {
+        TraceContext previous = CURRENT.get();
+        CURRENT.set(this);
+        try {
+            return call.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+}
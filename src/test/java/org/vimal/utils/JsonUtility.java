@@ -1,17 +1,75 @@
 package org.vimal.utils;
 
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.util.ByteBufferBackedOutputStream;
+import com.fasterxml.jackson.module.blackbird.BlackbirdModule;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Path;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class JsonUtility {
     private JsonUtility() {
     }
 
     private static final ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final ObjectMapper compactObjectMapper = buildCompactObjectMapper();
+    private static final ConcurrentHashMap<Class<?>, ObjectWriter> COMPACT_WRITERS = new ConcurrentHashMap<>();
+
+    private static ObjectMapper buildCompactObjectMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        if (Boolean.getBoolean("json.blackbird")) {
+            mapper.registerModule(new BlackbirdModule());
+        }
+        return mapper;
+    }
 
     public static String toJson(Object obj) throws JsonProcessingException {
         return objectMapper.writerWithDefaultPrettyPrinter()
                 .writeValueAsString(obj);
     }
+
+    public static <T> T fromJson(Path path,
+                                 Class<T> type) throws IOException {
+        return objectMapper.readValue(path.toFile(), type);
+    }
+
+    public static String toCompactJson(Object obj) throws JsonProcessingException {
+        return compactWriter(obj).writeValueAsString(obj);
+    }
+
+    public static byte[] toCompactJsonBytes(Object obj) throws JsonProcessingException {
+        return compactWriter(obj).writeValueAsBytes(obj);
+    }
+
+    public static void writeTo(Object obj,
+                               OutputStream outputStream) throws IOException {
+        compactWriter(obj).writeValue(outputStream, obj);
+    }
+
+    public static void writeTo(Object obj,
+                               ByteBuffer byteBuffer) throws IOException {
+        try (OutputStream outputStream = new ByteBufferBackedOutputStream(byteBuffer)) {
+            writeTo(obj, outputStream);
+        }
+    }
+
+    public static ByteBuffer toByteBuffer(Object obj) throws JsonProcessingException {
+        return ByteBuffer.wrap(toCompactJsonBytes(obj));
+    }
+
+    private static ObjectWriter compactWriter(Object obj) {
+        if (obj == null) {
+            return compactObjectMapper.writer()
+                    .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        }
+        return COMPACT_WRITERS.computeIfAbsent(obj.getClass(), type -> compactObjectMapper.writerFor(type)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET));
+    }
 }
@@ -0,0 +1,58 @@
+package org.vimal.utils;
+
+import org.testng.annotations.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertFalse;
+import static org.vimal.utils.JsonUtility.writeTo;
+
+public class JsonUtilityTests {
+    @Test
+    public void test_Write_To_Keeps_Stream_Open_For_Further_Records() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        TrackingOutputStream stream = new TrackingOutputStream(out);
+        writeTo(Map.of("id", 1), stream);
+        stream.write('\n');
+        writeTo(Map.of("id", 2), stream);
+        assertFalse(stream.closed);
+        assertEquals(out.toString(StandardCharsets.UTF_8), "{\"id\":1}\n{\"id\":2}");
+    }
+
+    private static final class TrackingOutputStream extends OutputStream {
+        private final OutputStream delegate;
+        private boolean closed;
+
+        private TrackingOutputStream(OutputStream delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            delegate.write(b);
+        }
+
+        @Override
+        public void write(byte[] b,
+                          int off,
+                          int len) throws IOException {
+            if (closed) {
+                throw new IOException("Stream closed");
+            }
+            delegate.write(b, off, len);
+        }
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.mail.*;
 import jakarta.mail.search.*;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
+import org.vimal.jfr.MailFetchEvent;
 
 import java.io.IOException;
 import java.util.Date;
@@ -17,6 +18,7 @@ public final class MailReaderUtility {
     private MailReaderUtility() {
     }
 
+    private static final String IMAP_HOST = "imap.gmail.com";
     private static final long DEFAULT_MAX_WAIT_MS = 60000;
     private static final long DEFAULT_POLL_INTERVAL_MS = 3000;
     private static final int DEFAULT_OTP_LENGTH = 6;
@@ -50,7 +52,7 @@ public final class MailReaderUtility {
                                                       boolean delete) throws MessagingException, InterruptedException, IOException {
         Properties props = new Properties();
         props.put("mail.store.protocol", "imaps");
-        props.put("mail.imaps.host", "imap.gmail.com");
+        props.put("mail.imaps.host", IMAP_HOST);
         props.put("mail.imaps.port", "993");
         props.put("mail.imaps.ssl.enable", "true");
         props.put("mail.imaps.timeout", "30000");
@@ -60,12 +62,16 @@ public final class MailReaderUtility {
         long searchStartTimeMillis = System.currentTimeMillis();
         Date searchStartTime = new Date(searchStartTimeMillis);
         Folder folder = null;
+        MailFetchEvent event = new MailFetchEvent("imaps://" + IMAP_HOST, emailSubject);
+        event.begin();
+        String content = null;
         try {
             store.connect(
                     email,
                     appPassword
             );
             while ((System.currentTimeMillis() - searchStartTimeMillis) < maxWaitTimeMs) {
+                event.poll();
                 for (String folderName : folders) {
                     try {
                         folder = store.getFolder(folderName);
@@ -87,7 +93,7 @@ public final class MailReaderUtility {
                                     message.getReceivedDate().before(searchStartTime)) {
                                 continue;
                             }
-                            String content = getTextFromMessage(message);
+                            content = getTextFromMessage(message);
                             if (seen) {
                                 message.setFlag(Flags.Flag.SEEN, true);
                             }
@@ -113,6 +119,7 @@ public final class MailReaderUtility {
             }
             throw new RuntimeException("No email found with subject '" + emailSubject + "' after " + searchStartTime);
         } finally {
+            event.complete(content);
             if (store != null &&
                     store.isConnected()) {
                 store.close();
@@ -1,46 +1,118 @@
 package org.vimal.utils;
 
-import com.google.zxing.BinaryBitmap;
-import com.google.zxing.DecodeHintType;
-import com.google.zxing.MultiFormatReader;
-import com.google.zxing.NotFoundException;
+import com.google.zxing.*;
 import com.google.zxing.client.j2se.BufferedImageLuminanceSource;
 import com.google.zxing.common.HybridBinarizer;
+import com.google.zxing.qrcode.QRCodeReader;
+import org.vimal.jfr.QrDecodeEvent;
 
 import javax.imageio.ImageIO;
+import javax.imageio.stream.MemoryCacheImageInputStream;
 import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferByte;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class QrUtility {
     private QrUtility() {
     }
 
+    private static final ThreadLocal<QRCodeReader> QR_CODE_READER = ThreadLocal.withInitial(QRCodeReader::new);
     private static final ThreadLocal<MultiFormatReader> MULTI_FORMAT_READER = ThreadLocal.withInitial(MultiFormatReader::new);
-    private static final Map<DecodeHintType, Object> HINTS = buildHints();
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(QrUtility::sha256);
+    private static final Map<DecodeHintType, Object> PURE_BARCODE_HINTS = buildHints(DecodeHintType.PURE_BARCODE);
+    private static final Map<DecodeHintType, Object> HINTS = buildHints(DecodeHintType.TRY_HARDER);
+    private static final int MAX_MEMOIZED_CODES = 10_000;
+    private static final ConcurrentHashMap<ByteBuffer, String> DECODED_BY_IMAGE_HASH = new ConcurrentHashMap<>();
+    private static final String SECRET_PARAM = "secret=";
 
-    private static Map<DecodeHintType, Object> buildHints() {
+    private static Map<DecodeHintType, Object> buildHints(DecodeHintType hint) {
         Map<DecodeHintType, Object> hints = new EnumMap<>(DecodeHintType.class);
-        hints.put(DecodeHintType.TRY_HARDER, Boolean.TRUE);
+        hints.put(hint, Boolean.TRUE);
         return hints;
     }
 
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
     public static String extractSecretFromByteArrayOfQrCode(byte[] byteArrayOfQrCode) throws IOException, NotFoundException {
         String totpUrl = decodeByteArrayOfQrCode(byteArrayOfQrCode);
-        int queryStart = totpUrl.indexOf('?');
-        for (String param : totpUrl.substring(queryStart + 1)
-                .split("&")) {
-            if (param.startsWith("secret=")) {
-                return param.substring(7);
+        int queryStart = totpUrl.indexOf('?') + 1;
+        int paramStart = totpUrl.indexOf(SECRET_PARAM, queryStart);
+        while (paramStart >= 0) {
+            if (paramStart == queryStart ||
+                    totpUrl.charAt(paramStart - 1) == '&') {
+                int valueStart = paramStart + SECRET_PARAM.length();
+                int valueEnd = totpUrl.indexOf('&', valueStart);
+                return totpUrl.substring(valueStart, valueEnd < 0 ? totpUrl.length() : valueEnd);
             }
+            paramStart = totpUrl.indexOf(SECRET_PARAM, paramStart + 1);
         }
         throw new RuntimeException("No secret parameter found in Totp Url");
     }
 
     private static String decodeByteArrayOfQrCode(byte[] byteArrayOfQrCode) throws IOException, NotFoundException {
-        BufferedImage bufferedImage = ImageIO.read(new ByteArrayInputStream(byteArrayOfQrCode));
+        ByteBuffer imageHash = ByteBuffer.wrap(SHA_256.get()
+                .digest(byteArrayOfQrCode));
+        String memoized = DECODED_BY_IMAGE_HASH.get(imageHash);
+        if (memoized != null) {
+            return memoized;
+        }
+        QrDecodeEvent event = new QrDecodeEvent(byteArrayOfQrCode.length);
+        event.begin();
+        boolean decoded = false;
+        try {
+            BufferedImage bufferedImage = ImageIO.read(new MemoryCacheImageInputStream(new ByteArrayInputStream(byteArrayOfQrCode)));
+            if (bufferedImage == null) {
+                throw new IOException("Unsupported QR code image format");
+            }
+            String text = decodeFast(bufferedImage);
+            if (text == null) {
+                text = decodeTryHarder(bufferedImage);
+            }
+            decoded = true;
+            if (DECODED_BY_IMAGE_HASH.size() >= MAX_MEMOIZED_CODES) {
+                DECODED_BY_IMAGE_HASH.clear();
+            }
+            DECODED_BY_IMAGE_HASH.put(imageHash, text);
+            return text;
+        } finally {
+            event.complete(decoded);
+        }
+    }
+
+    private static String decodeFast(BufferedImage bufferedImage) {
+        BinaryBitmap bitmap = new BinaryBitmap(new HybridBinarizer(grayscaleLuminanceSource(bufferedImage)));
+        QRCodeReader reader = QR_CODE_READER.get();
+        try {
+            return reader.decode(bitmap, PURE_BARCODE_HINTS)
+                    .getText();
+        } catch (ReaderException ignored) {
+        } finally {
+            reader.reset();
+        }
+        try {
+            return reader.decode(bitmap)
+                    .getText();
+        } catch (ReaderException ignored) {
+            return null;
+        } finally {
+            reader.reset();
+        }
+    }
+
+    private static String decodeTryHarder(BufferedImage bufferedImage) throws NotFoundException {
         MultiFormatReader reader = MULTI_FORMAT_READER.get();
         try {
             return reader.decode(
@@ -52,4 +124,27 @@ public final class QrUtility {
             reader.reset();
         }
     }
+
+    private static LuminanceSource grayscaleLuminanceSource(BufferedImage bufferedImage) {
+        int width = bufferedImage.getWidth();
+        int height = bufferedImage.getHeight();
+        if (bufferedImage.getType() == BufferedImage.TYPE_BYTE_GRAY &&
+                bufferedImage.getRaster().getDataBuffer() instanceof DataBufferByte dataBuffer &&
+                dataBuffer.getNumBanks() == 1 &&
+                dataBuffer.getData().length == width * height) {
+            return new PlanarYUVLuminanceSource(dataBuffer.getData(), width, height, 0, 0, width, height, false);
+        }
+        int[] pixels = bufferedImage.getRGB(0, 0, width, height, null, 0, width);
+        byte[] luminance = new byte[width * height];
+        int pixel;
+        for (int i = 0; i < pixels.length; i++) {
+            pixel = pixels[i];
+            if ((pixel >>> 24) == 0) {
+                luminance[i] = (byte) 0xff;
+            } else {
+                luminance[i] = (byte) ((306 * ((pixel >> 16) & 0xff) + 601 * ((pixel >> 8) & 0xff) + 117 * (pixel & 0xff) + 0x200) >> 10);
+            }
+        }
+        return new PlanarYUVLuminanceSource(luminance, width, height, 0, 0, width, height, false);
+    }
 }
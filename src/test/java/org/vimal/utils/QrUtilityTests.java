@@ -0,0 +1,74 @@
+package org.vimal.utils;
+
+import com.google.zxing.BarcodeFormat;
+import com.google.zxing.NotFoundException;
+import com.google.zxing.WriterException;
+import com.google.zxing.client.j2se.MatrixToImageWriter;
+import com.google.zxing.common.BitMatrix;
+import com.google.zxing.qrcode.QRCodeWriter;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertThrows;
+import static org.vimal.utils.QrUtility.extractSecretFromByteArrayOfQrCode;
+
+public class QrUtilityTests {
+    @DataProvider
+    public Object[][] totpUrls() {
+        return new Object[][]{
+                {"otpauth://totp/Vimal:user?secret=JBSWY3DPEHPK3PXP&issuer=Vimal", "JBSWY3DPEHPK3PXP"},
+                {"otpauth://totp/Vimal:user?issuer=Vimal&secret=KRSXG5CTMVRXEZLU&algorithm=SHA1", "KRSXG5CTMVRXEZLU"},
+                {"otpauth://totp/Vimal:user?issuer=Vimal&digits=6&secret=MFRGGZDFMZTWQ2LK", "MFRGGZDFMZTWQ2LK"},
+                {"otpauth://totp/Vimal:user?notsecret=WRONG&secret=ONSWG4TFOQYTEMZU", "ONSWG4TFOQYTEMZU"}
+        };
+    }
+
+    @Test(dataProvider = "totpUrls")
+    public void test_Extract_Secret_From_Qr_Code(String totpUrl,
+                                                 String secret) throws IOException, NotFoundException, WriterException {
+        assertEquals(extractSecretFromByteArrayOfQrCode(qrCode(totpUrl)), secret);
+    }
+
+    @Test
+    public void test_Extract_Secret_From_Grayscale_And_Rgb_Qr_Codes() throws IOException, NotFoundException, WriterException {
+        BitMatrix matrix = new QRCodeWriter().encode(
+                "otpauth://totp/Vimal:user?issuer=Vimal&secret=GEZDGNBVGY3TQOJQ",
+                BarcodeFormat.QR_CODE,
+                200,
+                200
+        );
+        for (int imageType : new int[]{BufferedImage.TYPE_BYTE_GRAY, BufferedImage.TYPE_INT_RGB}) {
+            BufferedImage image = new BufferedImage(matrix.getWidth(), matrix.getHeight(), imageType);
+            for (int y = 0; y < matrix.getHeight(); y++) {
+                for (int x = 0; x < matrix.getWidth(); x++) {
+                    image.setRGB(x, y, matrix.get(x, y) ? 0xFF000000 : 0xFFFFFFFF);
+                }
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "PNG", out);
+            assertEquals(extractSecretFromByteArrayOfQrCode(out.toByteArray()), "GEZDGNBVGY3TQOJQ");
+        }
+    }
+
+    @Test
+    public void test_Extract_Secret_Rejects_Url_Without_Secret() throws IOException, WriterException {
+        byte[] qrCode = qrCode("otpauth://totp/Vimal:user?issuer=Vimal&notsecret=WRONG");
+        assertThrows(RuntimeException.class, () -> extractSecretFromByteArrayOfQrCode(qrCode));
+    }
+
+    private static byte[] qrCode(String content) throws IOException, WriterException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        MatrixToImageWriter.writeToStream(
+                new QRCodeWriter().encode(content, BarcodeFormat.QR_CODE, 200, 200),
+                "PNG",
+                out
+        );
+        return out.toByteArray();
+    }
+}
@@ -1,5 +1,6 @@
 package org.vimal.utils;
 
+import java.nio.charset.StandardCharsets;
 import java.util.concurrent.ThreadLocalRandom;
 
 public final class RandomStringUtility {
@@ -8,19 +9,50 @@ public final class RandomStringUtility {
 
     private static final int DEFAULT_LENGTH = 10;
     private static final String ALPHA_NUMERIC_CHARACTER_SET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+    private static final int BITS_PER_INDEX = 6;
+    private static final int INDEXES_PER_LONG = Long.SIZE / BITS_PER_INDEX;
+    private static final int INDEX_MASK = (1 << BITS_PER_INDEX) - 1;
+    private static final byte[] ALPHA_NUMERIC_TABLE = buildTable(ALPHA_NUMERIC_CHARACTER_SET);
+
+    private static byte[] buildTable(String characters) {
+        byte[] table = new byte[INDEX_MASK + 1];
+        byte[] characterBytes = characters.getBytes(StandardCharsets.ISO_8859_1);
+        System.arraycopy(characterBytes, 0, table, 0, characterBytes.length);
+        return table;
+    }
 
     public static String generateRandomStringAlphaNumeric() {
-        return generateRandomString(ALPHA_NUMERIC_CHARACTER_SET, DEFAULT_LENGTH);
+        return generateRandomStringAlphaNumeric(DEFAULT_LENGTH);
+    }
+
+    public static String generateRandomStringAlphaNumeric(int length) {
+        byte[] buffer = new byte[length];
+        fillRandomAlphaNumeric(buffer, 0, length);
+        return new String(buffer, StandardCharsets.ISO_8859_1);
+    }
+
+    public static void fillRandomAlphaNumeric(byte[] buffer,
+                                              int offset,
+                                              int length) {
+        fillRandom(ALPHA_NUMERIC_TABLE, ALPHA_NUMERIC_CHARACTER_SET.length(), buffer, offset, length);
     }
 
-    private static String generateRandomString(String characters,
-                                               int length) {
-        StringBuilder sb = new StringBuilder(length);
+    private static void fillRandom(byte[] table,
+                                   int usableEntries,
+                                   byte[] buffer,
+                                   int offset,
+                                   int length) {
         ThreadLocalRandom random = ThreadLocalRandom.current();
-        for (int i = 0; i < length; i++) {
-            int index = random.nextInt(characters.length());
-            sb.append(characters.charAt(index));
+        int end = offset + length;
+        int position = offset;
+        while (position < end) {
+            long bits = random.nextLong();
+            for (int i = 0; i < INDEXES_PER_LONG && position < end; i++, bits >>>= BITS_PER_INDEX) {
+                int index = (int) bits & INDEX_MASK;
+                if (index < usableEntries) {
+                    buffer[position++] = table[index];
+                }
+            }
         }
-        return sb.toString();
     }
 }
@@ -0,0 +1,47 @@
+package org.vimal.utils;
+
+import org.testng.annotations.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.vimal.utils.RandomStringUtility.fillRandomAlphaNumeric;
+import static org.vimal.utils.RandomStringUtility.generateRandomStringAlphaNumeric;
+
+public class RandomStringUtilityTests {
+    private static final String ALPHA_NUMERIC_CHARACTER_SET = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789";
+
+    @Test
+    public void test_Generated_Strings_Have_Requested_Length_And_Alphabet() {
+        assertEquals(generateRandomStringAlphaNumeric().length(), 10);
+        Set<Character> seen = new HashSet<>();
+        for (int length : new int[]{0, 1, 9, 10, 11, 64, 1_000}) {
+            for (int i = 0; i < 100; i++) {
+                String generated = generateRandomStringAlphaNumeric(length);
+                assertEquals(generated.length(), length);
+                for (char character : generated.toCharArray()) {
+                    assertTrue(ALPHA_NUMERIC_CHARACTER_SET.indexOf(character) >= 0, generated);
+                    seen.add(character);
+                }
+            }
+        }
+        assertEquals(seen.size(), ALPHA_NUMERIC_CHARACTER_SET.length());
+    }
+
+    @Test
+    public void test_Fill_Writes_Only_Requested_Range() {
+        byte[] buffer = new byte[32];
+        fillRandomAlphaNumeric(buffer, 5, 20);
+        for (int i = 0; i < buffer.length; i++) {
+            if (i < 5 ||
+                    i >= 25) {
+                assertEquals(buffer[i], (byte) 0);
+            } else {
+                assertTrue(ALPHA_NUMERIC_CHARACTER_SET.indexOf(new String(buffer, i, 1, StandardCharsets.ISO_8859_1)) >= 0);
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package org.vimal.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Set;
+
+@Getter
+@AllArgsConstructor
+public class ReceivedMail {
+    private final Set<String> recipients;
+    private final String subject;
+    private final long receivedAtMillis;
+}
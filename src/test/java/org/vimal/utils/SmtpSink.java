@@ -0,0 +1,159 @@
+package org.vimal.utils;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.*;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+public final class SmtpSink implements Closeable {
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ConcurrentLinkedQueue<ReceivedMail> received = new ConcurrentLinkedQueue<>();
+
+    private SmtpSink(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    public static SmtpSink start(String bindAddress,
+                                 int port) throws IOException {
+        ServerSocket serverSocket = new ServerSocket();
+        serverSocket.setReuseAddress(true);
+        serverSocket.bind(new InetSocketAddress(InetAddress.getByName(bindAddress), port));
+        SmtpSink sink = new SmtpSink(serverSocket);
+        sink.executor.execute(sink::acceptLoop);
+        log.info("SMTP sink listening on {}:{}.", bindAddress, serverSocket.getLocalPort());
+        return sink;
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    public List<ReceivedMail> getReceived() {
+        return new ArrayList<>(received);
+    }
+
+    public long countAddressedToAnyOf(Set<String> recipients,
+                                      long sinceMillis) {
+        long count = 0;
+        for (ReceivedMail mail : received) {
+            if (mail.getReceivedAtMillis() < sinceMillis) {
+                continue;
+            }
+            for (String recipient : mail.getRecipients()) {
+                if (recipients.contains(recipient)) {
+                    count++;
+                    break;
+                }
+            }
+        }
+        return count;
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> handle(socket));
+            } catch (IOException ex) {
+                if (!serverSocket.isClosed()) {
+                    log.warn("SMTP sink accept failed.", ex);
+                }
+            }
+        }
+    }
+
+    private void handle(Socket socket) {
+        try (socket;
+             BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+             Writer out = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8)) {
+            reply(out, "220 smtp-sink ready");
+            Set<String> recipients = new HashSet<>();
+            String line;
+            String command;
+            while ((line = in.readLine()) != null) {
+                command = line.length() < 4 ? line.toUpperCase(Locale.ROOT) : line.substring(0, 4).toUpperCase(Locale.ROOT);
+                switch (command) {
+                    case "EHLO" -> reply(out, "250-smtp-sink\r\n250 8BITMIME");
+                    case "HELO" -> reply(out, "250 smtp-sink");
+                    case "MAIL" -> {
+                        recipients = new HashSet<>();
+                        reply(out, "250 OK");
+                    }
+                    case "RCPT" -> {
+                        recipients.add(extractAddress(line));
+                        reply(out, "250 OK");
+                    }
+                    case "DATA" -> {
+                        reply(out, "354 End data with <CR><LF>.<CR><LF>");
+                        String subject = readData(in);
+                        received.add(new ReceivedMail(Set.copyOf(recipients), subject, System.currentTimeMillis()));
+                        reply(out, "250 OK");
+                    }
+                    case "RSET" -> {
+                        recipients = new HashSet<>();
+                        reply(out, "250 OK");
+                    }
+                    case "NOOP" -> reply(out, "250 OK");
+                    case "QUIT" -> {
+                        reply(out, "221 Bye");
+                        return;
+                    }
+                    default -> reply(out, "502 Command not implemented");
+                }
+            }
+        } catch (IOException ex) {
+            log.debug("SMTP sink connection closed.", ex);
+        }
+    }
+
+    private static String readData(BufferedReader in) throws IOException {
+        String subject = null;
+        String line;
+        while ((line = in.readLine()) != null &&
+                !line.equals(".")) {
+            if (subject == null &&
+                    line.regionMatches(true, 0, "Subject:", 0, 8)) {
+                subject = line.substring(8)
+                        .trim();
+            }
+        }
+        return subject;
+    }
+
+    private static String extractAddress(String line) {
+        int start = line.indexOf('<');
+        int end = line.indexOf('>', start + 1);
+        String address = (start >= 0 && end > start) ?
+                line.substring(start + 1, end) :
+                line.substring(line.indexOf(':') + 1);
+        return address.trim()
+                .toLowerCase(Locale.ROOT);
+    }
+
+    private static void reply(Writer out,
+                              String response) throws IOException {
+        out.write(response);
+        out.write("\r\n");
+        out.flush();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,65 @@
+package org.vimal.utils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.security.InvalidKeyException;
+import java.security.NoSuchAlgorithmException;
+
+final class TotpKey {
+    private static final int[] POWERS_OF_TEN = {1, 10, 100, 1_000, 10_000, 100_000, 1_000_000, 10_000_000, 100_000_000, 1_000_000_000};
+    private final Mac mac;
+    private final int digits;
+    private final long stepMillis;
+    private final byte[] counterBytes = new byte[8];
+    private volatile TotpWindow window;
+
+    TotpKey(byte[] key,
+            String algorithm,
+            int digits,
+            long stepMillis) throws InvalidKeyException {
+        try {
+            this.mac = Mac.getInstance(algorithm);
+        } catch (NoSuchAlgorithmException ex) {
+            throw new IllegalArgumentException(ex);
+        }
+        this.mac.init(new SecretKeySpec(key, algorithm));
+        this.digits = digits;
+        this.stepMillis = stepMillis;
+    }
+
+    TotpWindow window(long nowMillis) {
+        long step = nowMillis / stepMillis;
+        TotpWindow cached = window;
+        if (cached != null &&
+                cached.getStep() == step) {
+            return cached;
+        }
+        TotpWindow computed;
+        synchronized (this) {
+            computed = new TotpWindow(
+                    step,
+                    code(step - 1),
+                    code(step),
+                    code(step + 1),
+                    (step + 1) * stepMillis
+            );
+        }
+        window = computed;
+        return computed;
+    }
+
+    private String code(long counter) {
+        for (int i = 7; i >= 0; i--) {
+            counterBytes[i] = (byte) counter;
+            counter >>>= 8;
+        }
+        byte[] hash = mac.doFinal(counterBytes);
+        int offset = hash[hash.length - 1] & 0x0f;
+        int binary = ((hash[offset] & 0x7f) << 24) |
+                ((hash[offset + 1] & 0xff) << 16) |
+                ((hash[offset + 2] & 0xff) << 8) |
+                (hash[offset + 3] & 0xff);
+        String otp = Integer.toString(binary % POWERS_OF_TEN[digits]);
+        return otp.length() == digits ? otp : "0".repeat(digits - otp.length()) + otp;
+    }
+}
@@ -3,9 +3,8 @@ package org.vimal.utils;
 import com.eatthepath.otp.TimeBasedOneTimePasswordGenerator;
 import org.apache.commons.codec.binary.Base32;
 
-import javax.crypto.spec.SecretKeySpec;
 import java.security.InvalidKeyException;
-import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
 
 public final class TotpUtility {
     private TotpUtility() {
@@ -13,15 +12,46 @@ public final class TotpUtility {
 
     private static final TimeBasedOneTimePasswordGenerator TOTP_GENERATOR = new TimeBasedOneTimePasswordGenerator();
     private static final ThreadLocal<Base32> BASE_32 = ThreadLocal.withInitial(Base32::new);
+    private static final long TIME_STEP_MILLIS = TOTP_GENERATOR.getTimeStep()
+            .toMillis();
+    private static final int MAX_CACHED_SECRETS = 10_000;
+    private static final ConcurrentHashMap<String, TotpKey> KEYS = new ConcurrentHashMap<>();
 
     public static String generateTotp(String base32Secret) throws InvalidKeyException {
-        return TOTP_GENERATOR.generateOneTimePasswordString(
-                new SecretKeySpec(
-                        BASE_32.get()
-                                .decode(base32Secret),
-                        TOTP_GENERATOR.getAlgorithm()
-                ),
-                Instant.now()
+        return generateTotpWindow(base32Secret).getCurrent();
+    }
+
+    public static TotpWindow generateTotpWindow(String base32Secret) throws InvalidKeyException {
+        return keyFor(base32Secret).window(System.currentTimeMillis());
+    }
+
+    public static String generateTotpValidFor(String base32Secret,
+                                              long minRemainingMillis) throws InvalidKeyException, InterruptedException {
+        TotpWindow window = generateTotpWindow(base32Secret);
+        long remaining = window.getMillisRemainingInCurrentStep();
+        if (remaining >= minRemainingMillis) {
+            return window.getCurrent();
+        }
+        Thread.sleep(remaining + 1);
+        return generateTotpWindow(base32Secret).getCurrent();
+    }
+
+    private static TotpKey keyFor(String base32Secret) throws InvalidKeyException {
+        TotpKey key = KEYS.get(base32Secret);
+        if (key != null) {
+            return key;
+        }
+        if (KEYS.size() >= MAX_CACHED_SECRETS) {
+            KEYS.clear();
+        }
+        key = new TotpKey(
+                BASE_32.get()
+                        .decode(base32Secret),
+                TOTP_GENERATOR.getAlgorithm(),
+                TOTP_GENERATOR.getPasswordLength(),
+                TIME_STEP_MILLIS
         );
+        TotpKey existing = KEYS.putIfAbsent(base32Secret, key);
+        return existing != null ? existing : key;
     }
 }
@@ -0,0 +1,48 @@
+package org.vimal.utils;
+
+import com.eatthepath.otp.TimeBasedOneTimePasswordGenerator;
+import org.apache.commons.codec.binary.Base32;
+import org.testng.annotations.Test;
+
+import javax.crypto.spec.SecretKeySpec;
+import java.security.InvalidKeyException;
+import java.time.Instant;
+
+import static org.testng.Assert.assertEquals;
+
+public class TotpUtilityTests {
+    private static final TimeBasedOneTimePasswordGenerator TOTP_GENERATOR = new TimeBasedOneTimePasswordGenerator();
+    private static final String BASE_32_SECRET = "JBSWY3DPEHPK3PXPJBSWY3DPEHPK3PXP";
+
+    @Test
+    public void test_Totp_Window_Matches_Library_Codes() throws InvalidKeyException {
+        byte[] keyBytes = new Base32().decode(BASE_32_SECRET);
+        SecretKeySpec key = new SecretKeySpec(keyBytes, TOTP_GENERATOR.getAlgorithm());
+        long stepMillis = TOTP_GENERATOR.getTimeStep()
+                .toMillis();
+        TotpKey totpKey = new TotpKey(
+                keyBytes,
+                TOTP_GENERATOR.getAlgorithm(),
+                TOTP_GENERATOR.getPasswordLength(),
+                stepMillis
+        );
+        for (long step : new long[]{1, 2, 59, 1_000, 37_037_036, 56_666_666, System.currentTimeMillis() / stepMillis}) {
+            long nowMillis = step * stepMillis + stepMillis / 2;
+            TotpWindow window = totpKey.window(nowMillis);
+            assertEquals(window.getStep(), step);
+            assertEquals(window.getPrevious(), TOTP_GENERATOR.generateOneTimePasswordString(key, Instant.ofEpochMilli(nowMillis - stepMillis)));
+            assertEquals(window.getCurrent(), TOTP_GENERATOR.generateOneTimePasswordString(key, Instant.ofEpochMilli(nowMillis)));
+            assertEquals(window.getNext(), TOTP_GENERATOR.generateOneTimePasswordString(key, Instant.ofEpochMilli(nowMillis + stepMillis)));
+            assertEquals(window.getStepEndsAtMillis(), (step + 1) * stepMillis);
+        }
+    }
+
+    @Test
+    public void test_Generate_Totp_Matches_Library_Code_Now() throws InvalidKeyException {
+        SecretKeySpec key = new SecretKeySpec(new Base32().decode(BASE_32_SECRET), TOTP_GENERATOR.getAlgorithm());
+        TotpWindow window = TotpUtility.generateTotpWindow(BASE_32_SECRET);
+        long stepMillis = TOTP_GENERATOR.getTimeStep()
+                .toMillis();
+        assertEquals(window.getCurrent(), TOTP_GENERATOR.generateOneTimePasswordString(key, Instant.ofEpochMilli(window.getStep() * stepMillis)));
+    }
+}
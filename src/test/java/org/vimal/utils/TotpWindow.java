@@ -0,0 +1,18 @@
+package org.vimal.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class TotpWindow {
+    private final long step;
+    private final String previous;
+    private final String current;
+    private final String next;
+    private final long stepEndsAtMillis;
+
+    public long getMillisRemainingInCurrentStep() {
+        return Math.max(0, stepEndsAtMillis - System.currentTimeMillis());
+    }
+}
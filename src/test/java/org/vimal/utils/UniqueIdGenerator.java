@@ -0,0 +1,76 @@
+package org.vimal.utils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public final class UniqueIdGenerator {
+    private UniqueIdGenerator() {
+    }
+
+    private static final int RADIX = 36;
+    private static final int PID_WIDTH = 7;
+    private static final int START_MILLIS_WIDTH = 9;
+    private static final int STRIPES = stripeCount();
+    private static final int STRIPE_PADDING_SHIFT = 3;
+    private static final AtomicLongArray COUNTERS = new AtomicLongArray(STRIPES << STRIPE_PADDING_SHIFT);
+    private static final byte[] DIGITS = "0123456789abcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.ISO_8859_1);
+    private static final byte[] RUN_PREFIX = buildRunPrefix(ProcessHandle.current().pid(), System.currentTimeMillis());
+    private static final String RUN_PREFIX_STRING = new String(RUN_PREFIX, StandardCharsets.ISO_8859_1);
+
+    private static int stripeCount() {
+        int target = Math.min(64, Runtime.getRuntime().availableProcessors() * 4);
+        return Integer.highestOneBit(Math.max(1, target - 1)) << 1;
+    }
+
+    private static byte[] buildRunPrefix(long pid,
+                                         long startMillis) {
+        byte[] prefix = new byte[PID_WIDTH + START_MILLIS_WIDTH];
+        writeFixedWidth(pid, prefix, 0, PID_WIDTH);
+        writeFixedWidth(startMillis, prefix, PID_WIDTH, START_MILLIS_WIDTH);
+        return prefix;
+    }
+
+    private static void writeFixedWidth(long value,
+                                        byte[] target,
+                                        int offset,
+                                        int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            target[i] = DIGITS[(int) (value % RADIX)];
+            value /= RADIX;
+        }
+        if (value != 0) {
+            throw new IllegalStateException("Value does not fit in " + width + " base36 digits");
+        }
+    }
+
+    public static String getRunPrefix() {
+        return RUN_PREFIX_STRING;
+    }
+
+    public static String nextId() {
+        long sequence = nextSequence();
+        int digits = base36Length(sequence);
+        byte[] id = new byte[RUN_PREFIX.length + digits];
+        System.arraycopy(RUN_PREFIX, 0, id, 0, RUN_PREFIX.length);
+        for (int i = id.length - 1; i >= RUN_PREFIX.length; i--) {
+            id[i] = DIGITS[(int) (sequence % RADIX)];
+            sequence /= RADIX;
+        }
+        return new String(id, StandardCharsets.ISO_8859_1);
+    }
+
+    private static long nextSequence() {
+        int stripe = (int) (Thread.currentThread()
+                .threadId() & (STRIPES - 1));
+        return COUNTERS.getAndIncrement(stripe << STRIPE_PADDING_SHIFT) * STRIPES + stripe;
+    }
+
+    private static int base36Length(long value) {
+        int length = 1;
+        while (value >= RADIX) {
+            value /= RADIX;
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,51 @@
+package org.vimal.utils;
+
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.*;
+
+import static org.testng.Assert.assertEquals;
+import static org.testng.Assert.assertTrue;
+import static org.vimal.utils.UniqueIdGenerator.getRunPrefix;
+import static org.vimal.utils.UniqueIdGenerator.nextId;
+
+public class UniqueIdGeneratorTests {
+    private static final int THREADS = 16;
+    private static final int IDS_PER_THREAD = 50_000;
+
+    @Test
+    public void test_Ids_Are_Unique_Under_Concurrency() throws InterruptedException, ExecutionException {
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREADS)) {
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < IDS_PER_THREAD; j++) {
+                        assertTrue(ids.add(nextId()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        }
+        assertEquals(ids.size(), THREADS * IDS_PER_THREAD);
+    }
+
+    @Test
+    public void test_Ids_Start_With_Run_Prefix_And_Use_Lowercase_Base36() {
+        for (int i = 0; i < 1_000; i++) {
+            String id = nextId();
+            assertTrue(id.startsWith(getRunPrefix()));
+            assertTrue(id.length() > getRunPrefix().length());
+            assertTrue(id.matches("[0-9a-z]+"), id);
+        }
+    }
+}